@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.api;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base class for identifier services that decorate another service, typically to change where generated identifiers
+ * come from. Every operation other than {@link #generate()} is forwarded to the decorated service, so parsing,
+ * timestamps and cursors behave exactly as they do for the decorated service. The bulk generation methods are not
+ * forwarded and so draw from the decorating {@link #generate()}.
+ */
+public abstract class ForwardingIdentifierService implements IdentifierService {
+
+    /**
+     * The decorated service.
+     */
+    private final IdentifierService delegate;
+
+    /**
+     * Initialise the decorator.
+     *
+     * @param delegate The decorated service.
+     */
+    protected ForwardingIdentifierService(final IdentifierService delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Get the decorated service.
+     *
+     * @return The decorated service.
+     */
+    protected final IdentifierService delegate() {
+        return delegate;
+    }
+
+    /**
+     * Generate an identifier using the decorated service.
+     *
+     * @return The generated identifier.
+     */
+    @Override
+    public Identifier generate() {
+        return delegate.generate();
+    }
+
+    /**
+     * Generate an identifier whose embedded timestamp is a given time using the decorated service.
+     *
+     * @param time The time.
+     * @return The generated identifier.
+     * @throws UnsupportedOperationException If the identifier type does not embed a timestamp.
+     * @throws IllegalArgumentException      If the time cannot be represented.
+     */
+    @Override
+    public Identifier generate(final Instant time) {
+        return delegate.generate(time);
+    }
+
+    /**
+     * Generate identifiers whose embedded timestamps are given times using the decorated service.
+     *
+     * @param times The times.
+     * @return The generated identifiers in the same order as the times.
+     * @throws UnsupportedOperationException If the identifier type does not embed a timestamp.
+     * @throws IllegalArgumentException      If any of the times cannot be represented.
+     */
+    @Override
+    public List<Identifier> generateBatch(final Instant[] times) {
+        return delegate.generateBatch(times);
+    }
+
+    /**
+     * Reserve a block of identifiers using the decorated service.
+     *
+     * @param n The number of identifiers to reserve.
+     * @return The block.
+     * @throws UnsupportedOperationException If the identifier type cannot be reserved in blocks.
+     * @throws IllegalArgumentException      If the number of identifiers is not supported.
+     */
+    @Override
+    public IdentifierBlock reserveBlock(final int n) {
+        return delegate.reserveBlock(n);
+    }
+
+    /**
+     * Decode an identifier using its text representation.
+     *
+     * @param text The text representation.
+     * @return The identifier.
+     * @throws IllegalArgumentException If the text representation is not valid.
+     */
+    @Override
+    public Identifier fromText(final String text) {
+        return delegate.fromText(text);
+    }
+
+    /**
+     * Decode an identifier using its binary representation.
+     *
+     * @param binary The binary representation.
+     * @return The identifier.
+     * @throws IllegalArgumentException If the binary representation is not valid.
+     */
+    @Override
+    public Identifier fromBinary(final byte[] binary) {
+        return delegate.fromBinary(binary);
+    }
+
+    /**
+     * Decode an identifier using its binary representation starting at an offset in an array.
+     *
+     * @param binary The array containing the binary representation.
+     * @param offset The offset of the binary representation.
+     * @return The identifier.
+     */
+    @Override
+    public Identifier fromBinary(final byte[] binary,
+                                 final int offset) {
+        return delegate.fromBinary(binary, offset);
+    }
+
+    /**
+     * Decode an identifier using the binary representation at the position of a buffer.
+     *
+     * @param buffer The buffer.
+     * @return The identifier.
+     */
+    @Override
+    public Identifier fromByteBuffer(final ByteBuffer buffer) {
+        return delegate.fromByteBuffer(buffer);
+    }
+
+    /**
+     * Create an identifier from the most and least significant halves of its binary representation.
+     *
+     * @param msb The most significant bits.
+     * @param lsb The least significant bits.
+     * @return The identifier.
+     * @throws IllegalArgumentException If the binary representation is not valid.
+     */
+    @Override
+    public Identifier fromBits(final long msb,
+                               final long lsb) {
+        return delegate.fromBits(msb, lsb);
+    }
+
+    /**
+     * Convert a UUID string to an identifier.
+     *
+     * @param uuid The UUID string.
+     * @return The identifier.
+     */
+    @Override
+    public @Nullable Identifier fromUUID(@Nullable final String uuid) {
+        return delegate.fromUUID(uuid);
+    }
+
+    /**
+     * Convert a UUID to an identifier.
+     *
+     * @param uuid The UUID.
+     * @return The identifier.
+     */
+    @Override
+    public @Nullable Identifier fromUUID(@Nullable final UUID uuid) {
+        return delegate.fromUUID(uuid);
+    }
+
+    /**
+     * Extract the timestamp from an identifier.
+     *
+     * @param identifier The identifier.
+     * @return The timestamp.
+     * @throws UnsupportedOperationException If the operation is not supported.
+     */
+    @Override
+    public @Nullable Instant toInstant(@Nullable final Identifier identifier) {
+        return delegate.toInstant(identifier);
+    }
+
+    /**
+     * Extract the timestamp from an identifier as milliseconds since the Unix epoch.
+     *
+     * @param identifier The identifier.
+     * @return The timestamp in milliseconds.
+     * @throws UnsupportedOperationException If the operation is not supported.
+     */
+    @Override
+    public long toEpochMilli(final Identifier identifier) {
+        return delegate.toEpochMilli(identifier);
+    }
+
+    /**
+     * Extract the timestamp from the bits of an identifier as milliseconds since the Unix epoch.
+     *
+     * @param msb The most significant bits.
+     * @param lsb The least significant bits.
+     * @return The timestamp in milliseconds.
+     * @throws UnsupportedOperationException If the operation is not supported.
+     * @throws IllegalArgumentException      If the bits are not a valid binary representation.
+     */
+    @Override
+    public long toEpochMilli(final long msb,
+                             final long lsb) {
+        return delegate.toEpochMilli(msb, lsb);
+    }
+
+    /**
+     * Get the next valid identifier.
+     *
+     * @param identifier The identifier.
+     * @return The successor.
+     * @throws IllegalArgumentException If the identifier is the greatest possible identifier.
+     */
+    @Override
+    public Identifier successor(final Identifier identifier) {
+        return delegate.successor(identifier);
+    }
+
+    /**
+     * Get the previous valid identifier.
+     *
+     * @param identifier The identifier.
+     * @return The predecessor.
+     * @throws IllegalArgumentException If the identifier is the least possible identifier.
+     */
+    @Override
+    public Identifier predecessor(final Identifier identifier) {
+        return delegate.predecessor(identifier);
+    }
+
+    /**
+     * Encode a pagination cursor as a URL-safe token.
+     *
+     * @param cursor The cursor.
+     * @return The token.
+     * @throws UnsupportedOperationException If cursor tokens are not supported.
+     * @throws IllegalArgumentException      If the cursor cannot be encoded.
+     */
+    @Override
+    public String encodeCursor(final IdentifierCursor cursor) {
+        return delegate.encodeCursor(cursor);
+    }
+
+    /**
+     * Decode a pagination cursor from a token.
+     *
+     * @param token The token.
+     * @return The cursor.
+     * @throws UnsupportedOperationException If cursor tokens are not supported.
+     * @throws IllegalArgumentException      If the token is not valid.
+     */
+    @Override
+    public IdentifierCursor decodeCursor(final String token) {
+        return delegate.decodeCursor(token);
+    }
+
+    /**
+     * Get the lowest identifier that could have been generated at a given time.
+     *
+     * @param time The time.
+     * @return The lower bound.
+     * @throws UnsupportedOperationException If the operation is not supported for the identifier type.
+     * @throws IllegalArgumentException      If the temporal type is not supported.
+     */
+    @Override
+    public Identifier asLowerBound(final Temporal time) {
+        return delegate.asLowerBound(time);
+    }
+
+    /**
+     * Get the highest identifier that could have been generated at a given time.
+     *
+     * @param time The time.
+     * @return The upper bound.
+     * @throws UnsupportedOperationException If the operation is not supported for the identifier type.
+     * @throws IllegalArgumentException      If the temporal type is not supported.
+     */
+    @Override
+    public Identifier asUpperBound(final Temporal time) {
+        return delegate.asUpperBound(time);
+    }
+}
@@ -39,6 +39,24 @@ public interface Identifier extends Comparable<Identifier> {
      */
     byte[] binary();
 
+    /**
+     * Get the most significant 64 bits of the binary representation.
+     *
+     * @return The first 8 bytes of the binary representation as a big-endian long.
+     */
+    default long mostSignificantBits() {
+        return toLong(binary(), 0);
+    }
+
+    /**
+     * Get the least significant 64 bits of the binary representation.
+     *
+     * @return The last 8 bytes of the binary representation as a big-endian long.
+     */
+    default long leastSignificantBits() {
+        return toLong(binary(), 8);
+    }
+
     /**
      * Get the hexadecimal representation of the identifier.
      *
@@ -76,4 +94,20 @@ public interface Identifier extends Comparable<Identifier> {
     default int compareTo(final Identifier other) {
         return Arrays.compareUnsigned(binary(), other.binary());
     }
+
+    /**
+     * Read 8 bytes as a big-endian long.
+     *
+     * @param binary The binary representation.
+     * @param offset The position of the first byte.
+     * @return The long value.
+     */
+    private static long toLong(final byte[] binary,
+                               final int offset) {
+        var value = 0L;
+        for (var i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (binary[i] & 0xffL);
+        }
+        return value;
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.api;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A block of identifiers reserved by {@link IdentifierService#reserveBlock(int)}. The identifiers are a contiguous,
+ * strictly increasing run that is held as a starting point and a count, so each identifier is only created when it
+ * is asked for. The bits of an identifier can also be read without creating it at all.
+ */
+public interface IdentifierBlock extends Iterable<Identifier> {
+
+    /**
+     * Get the number of identifiers in the block.
+     *
+     * @return The number of identifiers.
+     */
+    int size();
+
+    /**
+     * Get the identifier at a position in the block.
+     *
+     * @param index The position.
+     * @return The identifier.
+     * @throws IndexOutOfBoundsException If the position is negative or not less than the size.
+     */
+    Identifier get(int index);
+
+    /**
+     * Get the most significant 64 bits of the identifier at a position in the block.
+     *
+     * @param index The position.
+     * @return The most significant bits.
+     * @throws IndexOutOfBoundsException If the position is negative or not less than the size.
+     */
+    long mostSignificantBits(int index);
+
+    /**
+     * Get the least significant 64 bits of the identifier at a position in the block.
+     *
+     * @param index The position.
+     * @return The least significant bits.
+     * @throws IndexOutOfBoundsException If the position is negative or not less than the size.
+     */
+    long leastSignificantBits(int index);
+
+    /**
+     * Get the first and lowest identifier in the block.
+     *
+     * @return The identifier.
+     */
+    default Identifier first() {
+        return get(0);
+    }
+
+    /**
+     * Get the last and highest identifier in the block.
+     *
+     * @return The identifier.
+     */
+    default Identifier last() {
+        return get(size() - 1);
+    }
+
+    /**
+     * Iterate over the identifiers in ascending order, creating each as it is reached.
+     *
+     * @return The iterator.
+     */
+    @Override
+    default Iterator<Identifier> iterator() {
+        return new Iterator<>() {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public Identifier next() {
+                if (index >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    /**
+     * Stream the identifiers in ascending order, creating each as it is reached.
+     *
+     * @return The identifiers.
+     */
+    default Stream<Identifier> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+}
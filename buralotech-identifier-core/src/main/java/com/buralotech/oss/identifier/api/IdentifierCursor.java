@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.api;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+
+/**
+ * The position reached by keyset pagination over identifiers. The next page starts after {@code last} when paging
+ * forward, or before it when paging backward, and stops at the optional time bound. Cursors are converted to and from
+ * compact URL-safe tokens by {@link IdentifierService#encodeCursor(IdentifierCursor)} and
+ * {@link IdentifierService#decodeCursor(String)}.
+ *
+ * @param last      The last identifier of the previous page.
+ * @param direction The direction of pagination.
+ * @param bound     The time at which pagination stops, inclusive, or {@code null} if it is unbounded. Only millisecond
+ *                  precision is preserved by the token.
+ */
+public record IdentifierCursor(Identifier last, Direction direction, @Nullable Instant bound) {
+
+    /**
+     * Create an unbounded cursor.
+     *
+     * @param last      The last identifier of the previous page.
+     * @param direction The direction of pagination.
+     */
+    public IdentifierCursor(final Identifier last,
+                            final Direction direction) {
+        this(last, direction, null);
+    }
+
+    /**
+     * The direction of pagination.
+     */
+    public enum Direction {
+
+        /**
+         * Ascending order, so the next page holds identifiers greater than {@code last}.
+         */
+        FORWARD,
+
+        /**
+         * Descending order, so the next page holds identifiers less than {@code last}.
+         */
+        BACKWARD
+    }
+}
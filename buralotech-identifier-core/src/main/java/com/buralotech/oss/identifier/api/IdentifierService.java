@@ -24,6 +24,7 @@ import java.time.temporal.Temporal;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -72,6 +73,50 @@ public interface IdentifierService {
         return Stream.generate(this::generate);
     }
 
+    /**
+     * Generate an identifier whose embedded timestamp is a given time rather than the current time, for example to
+     * backfill historical records. The remaining bits are random so identifiers generated for the same time are
+     * unique.
+     *
+     * @param time The time.
+     * @return The generated identifier.
+     * @throws UnsupportedOperationException If the identifier type does not embed a timestamp.
+     * @throws IllegalArgumentException      If the time cannot be represented.
+     */
+    default Identifier generate(final Instant time) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Generate an identifier for each of a batch of times as described by {@link #generate(Instant)}.
+     *
+     * @param times The times.
+     * @return The generated identifiers in the same order as the times.
+     * @throws UnsupportedOperationException If the identifier type does not embed a timestamp.
+     * @throws IllegalArgumentException      If any of the times cannot be represented.
+     */
+    default List<Identifier> generateBatch(final Instant[] times) {
+        final var identifiers = new Identifier[times.length];
+        for (var i = 0; i < times.length; i++) {
+            identifiers[i] = generate(times[i]);
+        }
+        return List.of(identifiers);
+    }
+
+    /**
+     * Reserve a block of identifiers for bulk use, such as assigning keys to the rows of a large import. The block is a
+     * contiguous, strictly increasing run that no identifier generated later by this service falls inside, and it is
+     * held as a starting point and a count rather than as separate identifiers.
+     *
+     * @param n The number of identifiers to reserve.
+     * @return The block.
+     * @throws UnsupportedOperationException If the identifier type cannot be reserved in blocks.
+     * @throws IllegalArgumentException      If the number of identifiers is not supported.
+     */
+    default IdentifierBlock reserveBlock(final int n) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Decode an identifier using its text representation.
      *
@@ -107,6 +152,18 @@ public interface IdentifierService {
      */
     Identifier fromByteBuffer(ByteBuffer buffer);
 
+    /**
+     * Decode an identifier from the most and least significant 64 bits of its binary representation.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The identifier.
+     * @throws IllegalArgumentException If the binary representation is not valid.
+     */
+    default Identifier fromBits(final long msb, final long lsb) {
+        return fromBinary(ByteBuffer.allocate(16).putLong(msb).putLong(lsb).array());
+    }
+
     /**
      * Create an identifier from a UUID string.
      *
@@ -143,6 +200,90 @@ public interface IdentifierService {
      */
     @Nullable Instant toInstant(@Nullable Identifier identifier);
 
+    /**
+     * Extract the timestamp from an identifier as milliseconds since the Unix epoch.
+     *
+     * @param identifier The identifier.
+     * @return The number of milliseconds since the Unix epoch.
+     * @throws UnsupportedOperationException If the operation is not supported.
+     */
+    default long toEpochMilli(final Identifier identifier) {
+        return Objects.requireNonNull(toInstant(identifier)).toEpochMilli();
+    }
+
+    /**
+     * Extract the timestamp from an identifier given as the most and least significant 64 bits of its binary
+     * representation as milliseconds since the Unix epoch.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The number of milliseconds since the Unix epoch.
+     * @throws UnsupportedOperationException If the operation is not supported.
+     * @throws IllegalArgumentException      If the bits are not a valid binary representation.
+     */
+    default long toEpochMilli(final long msb,
+                              final long lsb) {
+        return toEpochMilli(fromBits(msb, lsb));
+    }
+
+    /**
+     * Get the least identifier that is greater than an identifier, which turns an inclusive bound into an exclusive
+     * one for keyset pagination. The default implementation treats all 128 bits as significant.
+     *
+     * @param identifier The identifier.
+     * @return The successor.
+     * @throws IllegalArgumentException If the identifier is the greatest possible identifier.
+     */
+    default Identifier successor(final Identifier identifier) {
+        final var msb = identifier.mostSignificantBits();
+        final var lsb = identifier.leastSignificantBits();
+        if (msb == -1L && lsb == -1L) {
+            throw new IllegalArgumentException("identifier has no successor");
+        }
+        return fromBits(lsb == -1L ? msb + 1L : msb, lsb + 1L);
+    }
+
+    /**
+     * Get the greatest identifier that is less than an identifier, which turns an inclusive bound into an exclusive
+     * one for keyset pagination. The default implementation treats all 128 bits as significant.
+     *
+     * @param identifier The identifier.
+     * @return The predecessor.
+     * @throws IllegalArgumentException If the identifier is the least possible identifier.
+     */
+    default Identifier predecessor(final Identifier identifier) {
+        final var msb = identifier.mostSignificantBits();
+        final var lsb = identifier.leastSignificantBits();
+        if (msb == 0L && lsb == 0L) {
+            throw new IllegalArgumentException("identifier has no predecessor");
+        }
+        return fromBits(lsb == 0L ? msb - 1L : msb, lsb - 1L);
+    }
+
+    /**
+     * Encode a keyset pagination cursor as an opaque URL-safe token.
+     *
+     * @param cursor The cursor.
+     * @return The token.
+     * @throws UnsupportedOperationException If cursor tokens are not supported.
+     * @throws IllegalArgumentException      If the cursor cannot be encoded.
+     */
+    default String encodeCursor(final IdentifierCursor cursor) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Decode a token created by {@link #encodeCursor(IdentifierCursor)}.
+     *
+     * @param token The token.
+     * @return The cursor.
+     * @throws UnsupportedOperationException If cursor tokens are not supported.
+     * @throws IllegalArgumentException      If the token is not valid.
+     */
+    default IdentifierCursor decodeCursor(final String token) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Generate a lower-bound identifier for temporal value that can be used in range queries.
      *
@@ -0,0 +1,563 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable set of identifiers that groups them into containers by the high 48 bits of their binary representation,
+ * which is the millisecond timestamp of a Type 7 identifier. The shared high bits are stored once per container and
+ * each identifier only stores its low 80 bits, so time-clustered sets take about 10 bytes per identifier.
+ * <p>
+ * {@link #and(IdentifierBitmap)}, {@link #or(IdentifierBitmap)} and {@link #andNot(IdentifierBitmap)} first merge the
+ * sorted container keys, so containers present in only one operand are skipped or copied whole without looking at
+ * their identifiers. Matching containers are merged, or searched when one is much smaller than the other.
+ */
+public final class IdentifierBitmap implements Iterable<Identifier> {
+
+    /**
+     * When a container is this many times larger than the container it is being intersected with, each identifier
+     * of the smaller container is found with a binary search instead of merging.
+     */
+    private static final int SEARCH_RATIO = 32;
+
+    /**
+     * Used to create identifiers from the stored bits.
+     */
+    private final IdentifierService identifierService;
+
+    /**
+     * The high 48 bits shared by the identifiers in each container in ascending order.
+     */
+    private final long[] keys;
+
+    /**
+     * The position of the first identifier of each container followed by the total number of identifiers.
+     */
+    private final int[] starts;
+
+    /**
+     * The low 16 bits of the most significant bits of each identifier.
+     */
+    private final char[] middles;
+
+    /**
+     * The least significant bits of each identifier.
+     */
+    private final long[] lows;
+
+    /**
+     * Construct a bitmap.
+     *
+     * @param identifierService Used to create identifiers from the stored bits.
+     * @param keys              The container keys.
+     * @param starts            The container start positions.
+     * @param middles           The low 16 bits of the most significant bits.
+     * @param lows              The least significant bits.
+     */
+    private IdentifierBitmap(final IdentifierService identifierService,
+                             final long[] keys,
+                             final int[] starts,
+                             final char[] middles,
+                             final long[] lows) {
+        this.identifierService = identifierService;
+        this.keys = keys;
+        this.starts = starts;
+        this.middles = middles;
+        this.lows = lows;
+    }
+
+    /**
+     * Create a bitmap containing a collection of identifiers. Duplicates are removed.
+     *
+     * @param identifierService Used to create identifiers from the stored bits.
+     * @param identifiers       The identifiers.
+     * @return The bitmap.
+     */
+    public static IdentifierBitmap of(final IdentifierService identifierService,
+                                      final Collection<? extends Identifier> identifiers) {
+        final var packed = PackedIdentifiers.sortedDistinct(identifiers);
+        final var builder = new Builder(packed.length >> 1);
+        for (var i = 0; i < packed.length; i += 2) {
+            builder.add(packed[i] >>> 16, (char) packed[i], packed[i + 1]);
+        }
+        return builder.build(identifierService);
+    }
+
+    /**
+     * Get the number of identifiers in the bitmap.
+     *
+     * @return The number of identifiers.
+     */
+    public int size() {
+        return starts[keys.length];
+    }
+
+    /**
+     * Determine if the bitmap is empty.
+     *
+     * @return {@code true} if the bitmap is empty. Otherwise, {@code false}.
+     */
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * Get the number of containers, which is the number of distinct timestamps for Type 7 identifiers.
+     *
+     * @return The number of containers.
+     */
+    public int containers() {
+        return keys.length;
+    }
+
+    /**
+     * Determine if an identifier is in the bitmap.
+     *
+     * @param identifier The identifier.
+     * @return {@code true} if the identifier is in the bitmap. Otherwise, {@code false}.
+     */
+    public boolean contains(final Identifier identifier) {
+        final var msb = identifier.mostSignificantBits();
+        final var container = Arrays.binarySearch(keys, msb >>> 16);
+        return container >= 0 && find(starts[container], starts[container + 1], (char) msb, identifier.leastSignificantBits()) >= 0;
+    }
+
+    /**
+     * Get the identifiers that are in both this bitmap and another.
+     *
+     * @param other The other bitmap.
+     * @return The intersection.
+     */
+    public IdentifierBitmap and(final IdentifierBitmap other) {
+        final var builder = new Builder(Math.min(size(), other.size()));
+        var i = 0;
+        var j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            final var compare = Long.compare(keys[i], other.keys[j]);
+            if (compare < 0) {
+                i = skipTo(keys, i, other.keys[j]);
+            } else if (compare > 0) {
+                j = skipTo(other.keys, j, keys[i]);
+            } else {
+                if (containerSize(i) <= other.containerSize(j)) {
+                    intersect(this, i, other, j, builder);
+                } else {
+                    intersect(other, j, this, i, builder);
+                }
+                i++;
+                j++;
+            }
+        }
+        return builder.build(identifierService);
+    }
+
+    /**
+     * Get the identifiers that are in this bitmap, another or both.
+     *
+     * @param other The other bitmap.
+     * @return The union.
+     */
+    public IdentifierBitmap or(final IdentifierBitmap other) {
+        final var builder = new Builder(size() + other.size());
+        var i = 0;
+        var j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            final var compare = i == keys.length ? 1 : j == other.keys.length ? -1 : Long.compare(keys[i], other.keys[j]);
+            if (compare < 0) {
+                builder.addContainer(this, i++);
+            } else if (compare > 0) {
+                builder.addContainer(other, j++);
+            } else {
+                merge(i++, other, j++, true, builder);
+            }
+        }
+        return builder.build(identifierService);
+    }
+
+    /**
+     * Get the identifiers that are in this bitmap but not in another.
+     *
+     * @param other The other bitmap.
+     * @return The difference.
+     */
+    public IdentifierBitmap andNot(final IdentifierBitmap other) {
+        final var builder = new Builder(size());
+        var j = 0;
+        for (var i = 0; i < keys.length; i++) {
+            j = skipTo(other.keys, j, keys[i]);
+            if (j < other.keys.length && other.keys[j] == keys[i]) {
+                merge(i, other, j, false, builder);
+            } else {
+                builder.addContainer(this, i);
+            }
+        }
+        return builder.build(identifierService);
+    }
+
+    /**
+     * Iterate over the identifiers in ascending order.
+     *
+     * @return The iterator.
+     */
+    @Override
+    public Iterator<Identifier> iterator() {
+        return new Iterator<>() {
+
+            private int container;
+
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return position < lows.length;
+            }
+
+            @Override
+            public Identifier next() {
+                if (position >= lows.length) {
+                    throw new NoSuchElementException();
+                }
+                while (starts[container + 1] <= position) {
+                    container++;
+                }
+                return identifierAt(container, position++);
+            }
+        };
+    }
+
+    /**
+     * Stream the identifiers in ascending order.
+     *
+     * @return The stream of identifiers.
+     */
+    public Stream<Identifier> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * Get the number of identifiers in a container.
+     *
+     * @param container The container.
+     * @return The number of identifiers.
+     */
+    private int containerSize(final int container) {
+        return starts[container + 1] - starts[container];
+    }
+
+    /**
+     * Create the identifier at a position.
+     *
+     * @param container The container holding the position.
+     * @param position  The position.
+     * @return The identifier.
+     */
+    private Identifier identifierAt(final int container,
+                                    final int position) {
+        return identifierService.fromBits((keys[container] << 16) | middles[position], lows[position]);
+    }
+
+    /**
+     * Compare the low 80 bits of the identifier at a position with a target.
+     *
+     * @param position The position.
+     * @param middle   The low 16 bits of the most significant bits of the target.
+     * @param low      The least significant bits of the target.
+     * @return A negative, zero or positive value if the identifier is less than, equal to or greater than the target.
+     */
+    private int compareAt(final int position,
+                          final char middle,
+                          final long low) {
+        final var result = Character.compare(middles[position], middle);
+        return result != 0 ? result : Long.compareUnsigned(lows[position], low);
+    }
+
+    /**
+     * Search a range of positions for the low 80 bits of an identifier.
+     *
+     * @param from   The first position.
+     * @param to     The position after the last.
+     * @param middle The low 16 bits of the most significant bits.
+     * @param low    The least significant bits.
+     * @return The position if found, otherwise {@code -(insertion point) - 1}.
+     */
+    private int find(final int from,
+                     final int to,
+                     final char middle,
+                     final long low) {
+        var lower = from;
+        var upper = to - 1;
+        while (lower <= upper) {
+            final var mid = (lower + upper) >>> 1;
+            final var compare = compareAt(mid, middle, low);
+            if (compare < 0) {
+                lower = mid + 1;
+            } else if (compare > 0) {
+                upper = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lower + 1);
+    }
+
+    /**
+     * Merge a container of this bitmap with the container of another that has the same key.
+     *
+     * @param container      The container of this bitmap.
+     * @param other          The other bitmap.
+     * @param otherContainer The container of the other bitmap.
+     * @param union          {@code true} to keep identifiers from both containers or {@code false} to keep only
+     *                       those that are not in the other container.
+     * @param builder        Receives the result.
+     */
+    private void merge(final int container,
+                       final IdentifierBitmap other,
+                       final int otherContainer,
+                       final boolean union,
+                       final Builder builder) {
+        final var key = keys[container];
+        var i = starts[container];
+        final var iEnd = starts[container + 1];
+        var j = other.starts[otherContainer];
+        final var jEnd = other.starts[otherContainer + 1];
+        while (i < iEnd) {
+            final var compare = j == jEnd ? -1 : compareAt(i, other.middles[j], other.lows[j]);
+            if (compare < 0) {
+                builder.add(key, middles[i], lows[i]);
+                i++;
+            } else {
+                if (compare > 0) {
+                    if (union) {
+                        builder.add(key, other.middles[j], other.lows[j]);
+                    }
+                } else {
+                    i++;
+                    if (union) {
+                        builder.add(key, other.middles[j], other.lows[j]);
+                    }
+                }
+                j++;
+            }
+        }
+        if (union) {
+            for (; j < jEnd; j++) {
+                builder.add(key, other.middles[j], other.lows[j]);
+            }
+        }
+    }
+
+    /**
+     * Intersect two containers with the same key.
+     *
+     * @param smaller          The bitmap holding the smaller container.
+     * @param smallerContainer The smaller container.
+     * @param larger           The bitmap holding the larger container.
+     * @param largerContainer  The larger container.
+     * @param builder          Receives the result.
+     */
+    private static void intersect(final IdentifierBitmap smaller,
+                                  final int smallerContainer,
+                                  final IdentifierBitmap larger,
+                                  final int largerContainer,
+                                  final Builder builder) {
+        final var key = smaller.keys[smallerContainer];
+        final var iEnd = smaller.starts[smallerContainer + 1];
+        var j = larger.starts[largerContainer];
+        final var jEnd = larger.starts[largerContainer + 1];
+        final var search = (long) smaller.containerSize(smallerContainer) * SEARCH_RATIO < jEnd - j;
+        for (var i = smaller.starts[smallerContainer]; i < iEnd && j < jEnd; i++) {
+            final var middle = smaller.middles[i];
+            final var low = smaller.lows[i];
+            if (search) {
+                final var found = larger.find(j, jEnd, middle, low);
+                if (found >= 0) {
+                    builder.add(key, middle, low);
+                    j = found + 1;
+                } else {
+                    j = -found - 1;
+                }
+            } else {
+                var compare = larger.compareAt(j, middle, low);
+                while (compare < 0 && ++j < jEnd) {
+                    compare = larger.compareAt(j, middle, low);
+                }
+                if (compare == 0) {
+                    builder.add(key, middle, low);
+                    j++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the first container at or after a position whose key is not less than a target, galloping ahead so that
+     * long runs of unmatched containers are skipped in logarithmic time.
+     *
+     * @param keys   The container keys.
+     * @param from   The position to start from.
+     * @param target The target key.
+     * @return The position which is {@code keys.length} if every remaining key is less than the target.
+     */
+    private static int skipTo(final long[] keys,
+                              final int from,
+                              final long target) {
+        var step = 1;
+        var lower = from;
+        var upper = from;
+        while (upper < keys.length && keys[upper] < target) {
+            lower = upper + 1;
+            upper = from + step;
+            step <<= 1;
+        }
+        upper = Math.min(upper, keys.length);
+        final var found = Arrays.binarySearch(keys, lower, upper, target);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    /**
+     * Accumulates identifiers in ascending order.
+     */
+    private static final class Builder {
+
+        /**
+         * The container keys.
+         */
+        private long[] keys;
+
+        /**
+         * The container start positions.
+         */
+        private int[] starts;
+
+        /**
+         * The number of containers.
+         */
+        private int containers;
+
+        /**
+         * The low 16 bits of the most significant bits.
+         */
+        private char[] middles;
+
+        /**
+         * The least significant bits.
+         */
+        private long[] lows;
+
+        /**
+         * The number of identifiers.
+         */
+        private int size;
+
+        /**
+         * Construct a builder.
+         *
+         * @param capacity The expected number of identifiers.
+         */
+        Builder(final int capacity) {
+            this.keys = new long[16];
+            this.starts = new int[16];
+            this.middles = new char[Math.max(16, capacity)];
+            this.lows = new long[Math.max(16, capacity)];
+        }
+
+        /**
+         * Add an identifier which must be greater than any previously added.
+         *
+         * @param key    The high 48 bits.
+         * @param middle The low 16 bits of the most significant bits.
+         * @param low    The least significant bits.
+         */
+        void add(final long key,
+                 final char middle,
+                 final long low) {
+            if (containers == 0 || keys[containers - 1] != key) {
+                startContainer(key);
+            }
+            if (size == lows.length) {
+                middles = Arrays.copyOf(middles, size << 1);
+                lows = Arrays.copyOf(lows, size << 1);
+            }
+            middles[size] = middle;
+            lows[size] = low;
+            size++;
+        }
+
+        /**
+         * Copy a whole container whose key must be greater than any previously added.
+         *
+         * @param bitmap    The bitmap holding the container.
+         * @param container The container.
+         */
+        void addContainer(final IdentifierBitmap bitmap,
+                          final int container) {
+            startContainer(bitmap.keys[container]);
+            final var from = bitmap.starts[container];
+            final var length = bitmap.containerSize(container);
+            if (size + length > lows.length) {
+                final var capacity = Math.max(size + length, size << 1);
+                middles = Arrays.copyOf(middles, capacity);
+                lows = Arrays.copyOf(lows, capacity);
+            }
+            System.arraycopy(bitmap.middles, from, middles, size, length);
+            System.arraycopy(bitmap.lows, from, lows, size, length);
+            size += length;
+        }
+
+        /**
+         * Start a new container.
+         *
+         * @param key The container key.
+         */
+        private void startContainer(final long key) {
+            if (containers == keys.length) {
+                keys = Arrays.copyOf(keys, containers << 1);
+                starts = Arrays.copyOf(starts, containers << 1);
+            }
+            keys[containers] = key;
+            starts[containers] = size;
+            containers++;
+        }
+
+        /**
+         * Create the bitmap.
+         *
+         * @param identifierService Used to create identifiers from the stored bits.
+         * @return The bitmap.
+         */
+        IdentifierBitmap build(final IdentifierService identifierService) {
+            final var trimmedStarts = Arrays.copyOf(starts, containers + 1);
+            trimmedStarts[containers] = size;
+            return new IdentifierBitmap(
+                    identifierService,
+                    Arrays.copyOf(keys, containers),
+                    trimmedStarts,
+                    Arrays.copyOf(middles, size),
+                    Arrays.copyOf(lows, size));
+        }
+    }
+}
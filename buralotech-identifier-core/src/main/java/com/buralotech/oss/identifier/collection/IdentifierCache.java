@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A cache keyed by time-based identifiers (Type 6 or Type 7) where the expiry of an entry is derived from the timestamp
+ * embedded in its key rather than from a separately recorded write time. An entry is live while the time elapsed since
+ * its key was generated is less than the time-to-live.
+ * <p>
+ * Entries are held in segments that each cover a fixed slice of key time. Because every key in a segment expires no
+ * later than the end of that slice, eviction drops whole segments at once and no per-entry timestamp or access-order
+ * list is needed. Expired segments are evicted lazily by {@link #put(Identifier, Object)} or explicitly by
+ * {@link #evictExpired()}.
+ *
+ * @param <V> The type of the cached values.
+ */
+public final class IdentifierCache<V> {
+
+    /**
+     * The default number of segments spanned by the time-to-live.
+     */
+    private static final long DEFAULT_SEGMENTS = 16L;
+
+    /**
+     * Used to extract the timestamp from the keys.
+     */
+    private final IdentifierService identifierService;
+
+    /**
+     * The time-to-live in milliseconds.
+     */
+    private final long ttlMillis;
+
+    /**
+     * The slice of key time covered by each segment in milliseconds.
+     */
+    private final long segmentMillis;
+
+    /**
+     * The source of the current time.
+     */
+    private final InstantSource clock;
+
+    /**
+     * The segments ordered by the slice of key time they cover.
+     */
+    private final ConcurrentNavigableMap<Long, Map<Identifier, V>> segments = new ConcurrentSkipListMap<>();
+
+    /**
+     * All segments before this one have been evicted.
+     */
+    private volatile long evictedBefore = Long.MIN_VALUE;
+
+    /**
+     * Construct a cache that uses the system clock and divides the time-to-live into 16 segments.
+     *
+     * @param identifierService Used to extract the timestamp from the keys.
+     * @param ttl               The time-to-live measured from the timestamp embedded in the key.
+     */
+    public IdentifierCache(final IdentifierService identifierService,
+                           final Duration ttl) {
+        this(identifierService, ttl, Duration.ofMillis(Math.max(1L, ttl.toMillis() / DEFAULT_SEGMENTS)), InstantSource.system());
+    }
+
+    /**
+     * Construct a cache.
+     *
+     * @param identifierService Used to extract the timestamp from the keys.
+     * @param ttl               The time-to-live measured from the timestamp embedded in the key.
+     * @param segment           The slice of key time covered by each segment.
+     * @param clock             The source of the current time.
+     * @throws IllegalArgumentException If the time-to-live or segment duration is less than one millisecond.
+     */
+    public IdentifierCache(final IdentifierService identifierService,
+                           final Duration ttl,
+                           final Duration segment,
+                           final InstantSource clock) {
+        if (ttl.toMillis() < 1L || segment.toMillis() < 1L) {
+            throw new IllegalArgumentException("ttl and segment must be at least one millisecond");
+        }
+        this.identifierService = identifierService;
+        this.ttlMillis = ttl.toMillis();
+        this.segmentMillis = segment.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Get the value associated with a key if the key has not expired.
+     *
+     * @param key The key.
+     * @return The value or {@code null} if there is no live entry for the key.
+     */
+    public @Nullable V get(final Identifier key) {
+        final var time = identifierService.toEpochMilli(key);
+        if (isExpired(time, clock.millis())) {
+            return null;
+        }
+        final var segment = segments.get(segmentOf(time));
+        return segment == null ? null : segment.get(key);
+    }
+
+    /**
+     * Determine if there is a live entry for a key.
+     *
+     * @param key The key.
+     * @return {@code true} if there is a live entry for the key. Otherwise, {@code false}.
+     */
+    public boolean containsKey(final Identifier key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associate a value with a key. Keys that have already expired are not stored.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return The value previously associated with the key or {@code null} if there was none.
+     */
+    public @Nullable V put(final Identifier key,
+                           final V value) {
+        final var now = clock.millis();
+        evictExpired(now);
+        final var time = identifierService.toEpochMilli(key);
+        if (isExpired(time, now)) {
+            return null;
+        }
+        return segments.computeIfAbsent(segmentOf(time), segment -> new ConcurrentHashMap<>()).put(key, value);
+    }
+
+    /**
+     * Remove the entry for a key.
+     *
+     * @param key The key.
+     * @return The value that was associated with the key or {@code null} if there was none.
+     */
+    public @Nullable V remove(final Identifier key) {
+        final var segment = segments.get(segmentOf(identifierService.toEpochMilli(key)));
+        return segment == null ? null : segment.remove(key);
+    }
+
+    /**
+     * Get the number of entries held by the cache. This includes expired entries in segments that have not yet been
+     * evicted.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        var size = 0;
+        for (final var segment : segments.values()) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Remove all the entries.
+     */
+    public void clear() {
+        segments.clear();
+    }
+
+    /**
+     * Drop every segment whose keys have all expired.
+     *
+     * @return The number of entries that were evicted.
+     */
+    public int evictExpired() {
+        return evictExpired(clock.millis());
+    }
+
+    /**
+     * Drop every segment whose keys have all expired at the given time. This is a no-op if no further segment has
+     * expired since the last eviction.
+     *
+     * @param now The current time in milliseconds since the Unix epoch.
+     * @return The number of entries that were evicted.
+     */
+    private int evictExpired(final long now) {
+        final var before = segmentOf(now - ttlMillis + 1L);
+        if (before <= evictedBefore) {
+            return 0;
+        }
+        evictedBefore = before;
+        final var expired = segments.headMap(before);
+        var evicted = 0;
+        for (final var segment : expired.values()) {
+            evicted += segment.size();
+        }
+        expired.clear();
+        return evicted;
+    }
+
+    /**
+     * Determine if a key generated at the given time has expired.
+     *
+     * @param time The time embedded in the key.
+     * @param now  The current time.
+     * @return {@code true} if the key has expired. Otherwise, {@code false}.
+     */
+    private boolean isExpired(final long time,
+                              final long now) {
+        return now - time >= ttlMillis;
+    }
+
+    /**
+     * Get the segment that covers the given time.
+     *
+     * @param time The time in milliseconds since the Unix epoch.
+     * @return The segment number.
+     */
+    private long segmentOf(final long time) {
+        return Math.floorDiv(time, segmentMillis);
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import org.jspecify.annotations.Nullable;
+
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, sorted set of identifiers packed into a single {@code long[]} at 16 bytes per identifier. Lookups are
+ * O(log n) binary searches over the packed keys and {@link Identifier} objects are only created for results.
+ * <p>
+ * When the identifiers are time-based (Type 6 or Type 7) {@link #range(Temporal, Temporal)} selects those generated
+ * within a time window using {@link IdentifierService#asLowerBound(Temporal)} and
+ * {@link IdentifierService#asUpperBound(Temporal)}.
+ */
+public final class IdentifierIndex implements Iterable<Identifier> {
+
+    /**
+     * Used to create identifiers from the packed keys.
+     */
+    private final IdentifierService identifierService;
+
+    /**
+     * The packed identifiers in ascending order.
+     */
+    private final long[] keys;
+
+    /**
+     * The position of the first identifier in this index.
+     */
+    private final int from;
+
+    /**
+     * The position after the last identifier in this index.
+     */
+    private final int to;
+
+    /**
+     * Construct an index over a range of packed identifiers.
+     *
+     * @param identifierService Used to create identifiers from the packed keys.
+     * @param keys              The packed identifiers in ascending order.
+     * @param from              The position of the first identifier.
+     * @param to                The position after the last identifier.
+     */
+    private IdentifierIndex(final IdentifierService identifierService,
+                            final long[] keys,
+                            final int from,
+                            final int to) {
+        this.identifierService = identifierService;
+        this.keys = keys;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Create an index containing a collection of identifiers. Duplicates are removed.
+     *
+     * @param identifierService Used to create identifiers from the packed keys.
+     * @param identifiers       The identifiers.
+     * @return The index.
+     */
+    public static IdentifierIndex of(final IdentifierService identifierService,
+                                     final Collection<? extends Identifier> identifiers) {
+        final var keys = PackedIdentifiers.sortedDistinct(identifiers);
+        return new IdentifierIndex(identifierService, keys, 0, keys.length >> 1);
+    }
+
+    /**
+     * Get the number of identifiers in the index.
+     *
+     * @return The number of identifiers.
+     */
+    public int size() {
+        return to - from;
+    }
+
+    /**
+     * Determine if the index is empty.
+     *
+     * @return {@code true} if the index is empty. Otherwise, {@code false}.
+     */
+    public boolean isEmpty() {
+        return to == from;
+    }
+
+    /**
+     * Get the identifier at a position in the index.
+     *
+     * @param index The position which must be between {@code 0} and {@code size() - 1}.
+     * @return The identifier.
+     * @throws IndexOutOfBoundsException If the position is out of range.
+     */
+    public Identifier get(final int index) {
+        return identifierAt(from + Objects.checkIndex(index, size()));
+    }
+
+    /**
+     * Get the number of identifiers in the index that are less than an identifier.
+     *
+     * @param identifier The identifier.
+     * @return The number of identifiers less than {@code identifier}.
+     */
+    public int rank(final Identifier identifier) {
+        return lowerBound(identifier) - from;
+    }
+
+    /**
+     * Determine if an identifier is in the index.
+     *
+     * @param identifier The identifier.
+     * @return {@code true} if the identifier is in the index. Otherwise, {@code false}.
+     */
+    public boolean contains(final Identifier identifier) {
+        final var position = lowerBound(identifier);
+        return position < to
+                && keys[position << 1] == identifier.mostSignificantBits()
+                && keys[(position << 1) + 1] == identifier.leastSignificantBits();
+    }
+
+    /**
+     * Get the greatest identifier in the index that is less than or equal to an identifier.
+     *
+     * @param identifier The identifier.
+     * @return The greatest identifier less than or equal to {@code identifier} or {@code null} if there is none.
+     */
+    public @Nullable Identifier floor(final Identifier identifier) {
+        final var position = upperBound(identifier);
+        return position == from ? null : identifierAt(position - 1);
+    }
+
+    /**
+     * Get the least identifier in the index that is greater than or equal to an identifier.
+     *
+     * @param identifier The identifier.
+     * @return The least identifier greater than or equal to {@code identifier} or {@code null} if there is none.
+     */
+    public @Nullable Identifier ceiling(final Identifier identifier) {
+        final var position = lowerBound(identifier);
+        return position == to ? null : identifierAt(position);
+    }
+
+    /**
+     * Get a view of the identifiers between two bounds. The view shares the packed keys with this index.
+     *
+     * @param lower The inclusive lower bound.
+     * @param upper The inclusive upper bound.
+     * @return The identifiers that are greater than or equal to {@code lower} and less than or equal to {@code upper}.
+     */
+    public IdentifierIndex range(final Identifier lower,
+                                 final Identifier upper) {
+        final var start = lowerBound(lower);
+        final var end = Math.max(start, upperBound(upper));
+        return new IdentifierIndex(identifierService, keys, start, end);
+    }
+
+    /**
+     * Get a view of the time-based identifiers that were generated between two points in time.
+     *
+     * @param start The inclusive start of the time window.
+     * @param end   The inclusive end of the time window.
+     * @return The identifiers generated within the time window.
+     * @throws UnsupportedOperationException If the identifiers are not time-based.
+     * @throws IllegalArgumentException      If the temporal type is not supported.
+     */
+    public IdentifierIndex range(final Temporal start,
+                                 final Temporal end) {
+        return range(identifierService.asLowerBound(start), identifierService.asUpperBound(end));
+    }
+
+    /**
+     * Iterate over the identifiers in ascending order.
+     *
+     * @return The iterator.
+     */
+    @Override
+    public Iterator<Identifier> iterator() {
+        return new Iterator<>() {
+
+            private int position = from;
+
+            @Override
+            public boolean hasNext() {
+                return position < to;
+            }
+
+            @Override
+            public Identifier next() {
+                if (position >= to) {
+                    throw new NoSuchElementException();
+                }
+                return identifierAt(position++);
+            }
+        };
+    }
+
+    /**
+     * Stream the identifiers in ascending order.
+     *
+     * @return The stream of identifiers.
+     */
+    public Stream<Identifier> stream() {
+        return IntStream.range(from, to).mapToObj(this::identifierAt);
+    }
+
+    /**
+     * Find the first position whose identifier is not less than an identifier.
+     *
+     * @param identifier The identifier.
+     * @return The position.
+     */
+    private int lowerBound(final Identifier identifier) {
+        return PackedIdentifiers.search(keys, from, to, identifier.mostSignificantBits(), identifier.leastSignificantBits(), false);
+    }
+
+    /**
+     * Find the first position whose identifier is greater than an identifier.
+     *
+     * @param identifier The identifier.
+     * @return The position.
+     */
+    private int upperBound(final Identifier identifier) {
+        return PackedIdentifiers.search(keys, from, to, identifier.mostSignificantBits(), identifier.leastSignificantBits(), true);
+    }
+
+    /**
+     * Create the identifier at an absolute position in the packed keys.
+     *
+     * @param position The position.
+     * @return The identifier.
+     */
+    private Identifier identifierAt(final int position) {
+        return identifierService.fromBits(keys[position << 1], keys[(position << 1) + 1]);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges sources of identifiers that are each already sorted in ascending order, such as time-ordered Type 7
+ * identifiers from many shards, using a {@link LoserTree}. Identifiers are compared as pairs of longs that are read
+ * once when an identifier enters the tree rather than with {@link Identifier#compareTo} on every comparison.
+ * Optionally, identifiers that appear more than once are only returned once.
+ */
+public final class IdentifierMerge {
+
+    /**
+     * Prevent instantiation.
+     */
+    private IdentifierMerge() {
+    }
+
+    /**
+     * Merge sorted iterators, keeping duplicates. Identifiers that compare equal are returned in source order.
+     *
+     * @param sources The iterators, each of which must return identifiers in ascending order.
+     * @return An iterator over all the identifiers in ascending order.
+     */
+    public static Iterator<Identifier> merge(final List<? extends Iterator<? extends Identifier>> sources) {
+        return new MergeIterator(sources, false);
+    }
+
+    /**
+     * Merge sorted iterators, returning each distinct identifier once.
+     *
+     * @param sources The iterators, each of which must return identifiers in ascending order.
+     * @return An iterator over the distinct identifiers in ascending order.
+     */
+    public static Iterator<Identifier> mergeDistinct(final List<? extends Iterator<? extends Identifier>> sources) {
+        return new MergeIterator(sources, true);
+    }
+
+    /**
+     * Merge sorted runs of identifiers packed into {@code long[]} arrays as consecutive pairs of their most and least
+     * significant 64 bits, keeping duplicates.
+     *
+     * @param runs The runs, each of which must be in ascending order.
+     * @return The merged identifiers packed in the same way.
+     */
+    public static long[] merge(final long[]... runs) {
+        return mergePacked(runs, false);
+    }
+
+    /**
+     * Merge sorted runs of identifiers packed into {@code long[]} arrays as consecutive pairs of their most and least
+     * significant 64 bits, keeping each distinct identifier once.
+     *
+     * @param runs The runs, each of which must be in ascending order.
+     * @return The merged distinct identifiers packed in the same way.
+     */
+    public static long[] mergeDistinct(final long[]... runs) {
+        return mergePacked(runs, true);
+    }
+
+    /**
+     * Merge packed runs.
+     *
+     * @param runs     The runs.
+     * @param distinct {@code true} to drop duplicates.
+     * @return The merged identifiers.
+     */
+    private static long[] mergePacked(final long[][] runs,
+                                      final boolean distinct) {
+        var length = 0L;
+        for (final var run : runs) {
+            if ((run.length & 1) != 0) {
+                throw new IllegalArgumentException("packed identifiers must have an even length");
+            }
+            length += run.length;
+        }
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("merged identifiers are too large");
+        }
+        final var positions = new int[runs.length];
+        final var tree = new LoserTree(runs.length) {
+            @Override
+            void load(final int source) {
+                final var run = runs[source];
+                final var position = positions[source];
+                if (position == run.length) {
+                    exhausted[source] = true;
+                } else {
+                    msbs[source] = run[position];
+                    lsbs[source] = run[position + 1];
+                    positions[source] = position + 2;
+                }
+            }
+        };
+        tree.init();
+        final var merged = new long[(int) length];
+        var count = 0;
+        while (!tree.isEmpty()) {
+            final var winner = tree.winner();
+            final var msb = tree.msbs[winner];
+            final var lsb = tree.lsbs[winner];
+            if (!distinct || count == 0 || merged[count - 2] != msb || merged[count - 1] != lsb) {
+                merged[count++] = msb;
+                merged[count++] = lsb;
+            }
+            tree.advance();
+        }
+        return count == merged.length ? merged : Arrays.copyOf(merged, count);
+    }
+
+    /**
+     * Merges iterators lazily.
+     */
+    private static final class MergeIterator extends LoserTree implements Iterator<Identifier> {
+
+        /**
+         * The sources.
+         */
+        private final Iterator<? extends Identifier>[] sources;
+
+        /**
+         * The current identifier of each source.
+         */
+        private final Identifier[] heads;
+
+        /**
+         * Set to drop duplicates.
+         */
+        private final boolean distinct;
+
+        /**
+         * Construct the iterator.
+         *
+         * @param sources  The sources.
+         * @param distinct {@code true} to drop duplicates.
+         */
+        MergeIterator(final List<? extends Iterator<? extends Identifier>> sources,
+                      final boolean distinct) {
+            super(sources.size());
+            this.sources = sources.toArray(newSources(sources.size()));
+            this.heads = new Identifier[sources.size()];
+            this.distinct = distinct;
+            init();
+        }
+
+        /**
+         * Create an array for the sources. A generic array cannot be created directly, so an array of unbounded
+         * iterators is created and cast, which is safe because it never escapes the iterator.
+         *
+         * @param length The length of the array.
+         * @return The array.
+         */
+        @SuppressWarnings("unchecked")
+        private static Iterator<? extends Identifier>[] newSources(final int length) {
+            return (Iterator<? extends Identifier>[]) new Iterator<?>[length];
+        }
+
+        @Override
+        void load(final int source) {
+            final var iterator = sources[source];
+            if (iterator.hasNext()) {
+                final var identifier = iterator.next();
+                heads[source] = identifier;
+                msbs[source] = identifier.mostSignificantBits();
+                lsbs[source] = identifier.leastSignificantBits();
+            } else {
+                exhausted[source] = true;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !isEmpty();
+        }
+
+        @Override
+        public Identifier next() {
+            if (isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            final var winner = winner();
+            final var identifier = heads[winner];
+            final var msb = msbs[winner];
+            final var lsb = lsbs[winner];
+            advance();
+            while (distinct && !isEmpty() && msbs[winner()] == msb && lsbs[winner()] == lsb) {
+                advance();
+            }
+            return identifier;
+        }
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts identifiers in ascending order with a most significant digit first radix sort over the 16 bytes of their
+ * binary representations, so no {@link Identifier#compareTo} calls are made. Bytes that all the identifiers in a range
+ * share, such as the leading timestamp bytes of Type 7 identifiers generated close together, are skipped without
+ * moving anything. Input that is already sorted or consists of a few sorted runs, which is typical of identifiers
+ * collected in generation order, is detected with a single pass and sorted or merged with a {@link LoserTree}
+ * instead. The sort is stable.
+ */
+public final class IdentifierSort {
+
+    /**
+     * Ranges of up to this many identifiers are sorted by insertion.
+     */
+    private static final int INSERTION_THRESHOLD = 48;
+
+    /**
+     * Ranges of at least this many identifiers are sorted in their own fork/join task by the parallel sorts.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Input with at most this many sorted runs is merged rather than radix sorted.
+     */
+    private static final int MAX_MERGED_RUNS = 32;
+
+    /**
+     * The number of byte-wide digits in an identifier.
+     */
+    private static final int DIGITS = 16;
+
+    /**
+     * Prevent instantiation.
+     */
+    private IdentifierSort() {
+    }
+
+    /**
+     * Sort identifiers packed into a {@code long[]} as consecutive pairs of their most and least significant 64 bits.
+     *
+     * @param packed The packed identifiers.
+     * @throws IllegalArgumentException If the array has an odd length.
+     */
+    public static void sort(final long[] packed) {
+        sort(checkPacked(packed), null, false);
+    }
+
+    /**
+     * Sort identifiers packed into a {@code long[]} as consecutive pairs of their most and least significant 64 bits,
+     * sorting large ranges in parallel in the common fork/join pool.
+     *
+     * @param packed The packed identifiers.
+     * @throws IllegalArgumentException If the array has an odd length.
+     */
+    public static void parallelSort(final long[] packed) {
+        sort(checkPacked(packed), null, true);
+    }
+
+    /**
+     * Sort an array of identifiers.
+     *
+     * @param identifiers The identifiers.
+     */
+    public static void sort(final Identifier[] identifiers) {
+        sort(identifiers, false);
+    }
+
+    /**
+     * Sort an array of identifiers, sorting large ranges in parallel in the common fork/join pool.
+     *
+     * @param identifiers The identifiers.
+     */
+    public static void parallelSort(final Identifier[] identifiers) {
+        sort(identifiers, true);
+    }
+
+    /**
+     * Sort an array of identifiers by sorting their packed bits together with their original positions and then
+     * permuting the array.
+     *
+     * @param identifiers The identifiers.
+     * @param parallel    {@code true} to sort large ranges in parallel.
+     */
+    private static void sort(final Identifier[] identifiers,
+                             final boolean parallel) {
+        final var n = identifiers.length;
+        final var keys = new long[n << 1];
+        final var order = new int[n];
+        for (var i = 0; i < n; i++) {
+            keys[i << 1] = identifiers[i].mostSignificantBits();
+            keys[(i << 1) + 1] = identifiers[i].leastSignificantBits();
+            order[i] = i;
+        }
+        if (sort(keys, order, parallel)) {
+            final var original = identifiers.clone();
+            for (var i = 0; i < n; i++) {
+                identifiers[i] = original[order[i]];
+            }
+        }
+    }
+
+    /**
+     * Sort packed identifiers and, optionally, a permutation alongside them.
+     *
+     * @param keys     The packed identifiers.
+     * @param order    The permutation or {@code null}.
+     * @param parallel {@code true} to sort large ranges in parallel.
+     * @return {@code false} if the identifiers were already sorted.
+     */
+    private static boolean sort(final long[] keys,
+                                final int @Nullable [] order,
+                                final boolean parallel) {
+        final var n = keys.length >> 1;
+        final var runs = findRuns(keys, n);
+        if (runs != null) {
+            if (runs.length == 2) {
+                return false;
+            }
+            mergeRuns(keys, order, runs);
+            return true;
+        }
+        final var buffer = new long[keys.length];
+        final var orderBuffer = order == null ? null : new int[n];
+        if (parallel && n >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new RadixTask(keys, buffer, order, orderBuffer, 0, n, 0));
+        } else {
+            radix(keys, buffer, order, orderBuffer, 0, n, 0, null);
+        }
+        return true;
+    }
+
+    /**
+     * Find the ascending runs in packed identifiers.
+     *
+     * @param keys The packed identifiers.
+     * @param n    The number of identifiers.
+     * @return The start of each run followed by {@code n}, or {@code null} if there are too many runs to merge.
+     */
+    private static int @Nullable [] findRuns(final long[] keys,
+                                             final int n) {
+        final var starts = new int[MAX_MERGED_RUNS + 1];
+        var runs = 1;
+        for (var i = 1; i < n; i++) {
+            if (PackedIdentifiers.compare(keys[(i << 1) - 2], keys[(i << 1) - 1], keys[i << 1], keys[(i << 1) + 1]) > 0) {
+                if (runs == MAX_MERGED_RUNS) {
+                    return null;
+                }
+                starts[runs++] = i;
+            }
+        }
+        starts[runs] = n;
+        final var result = new int[runs + 1];
+        System.arraycopy(starts, 0, result, 0, runs + 1);
+        return result;
+    }
+
+    /**
+     * Merge the sorted runs of packed identifiers.
+     *
+     * @param keys  The packed identifiers.
+     * @param order The permutation or {@code null}.
+     * @param runs  The start of each run followed by the number of identifiers.
+     */
+    private static void mergeRuns(final long[] keys,
+                                  final int @Nullable [] order,
+                                  final int[] runs) {
+        final var k = runs.length - 1;
+        final var positions = new int[k];
+        final var current = new int[k];
+        System.arraycopy(runs, 0, positions, 0, k);
+        final var tree = new LoserTree(k) {
+            @Override
+            void load(final int source) {
+                final var position = positions[source];
+                if (position == runs[source + 1]) {
+                    exhausted[source] = true;
+                } else {
+                    msbs[source] = keys[position << 1];
+                    lsbs[source] = keys[(position << 1) + 1];
+                    current[source] = position;
+                    positions[source] = position + 1;
+                }
+            }
+        };
+        tree.init();
+        final var merged = new long[keys.length];
+        final var mergedOrder = order == null ? null : new int[order.length];
+        var count = 0;
+        while (!tree.isEmpty()) {
+            final var winner = tree.winner();
+            merged[count << 1] = tree.msbs[winner];
+            merged[(count << 1) + 1] = tree.lsbs[winner];
+            if (order != null && mergedOrder != null) {
+                mergedOrder[count] = order[current[winner]];
+            }
+            count++;
+            tree.advance();
+        }
+        System.arraycopy(merged, 0, keys, 0, keys.length);
+        if (order != null && mergedOrder != null) {
+            System.arraycopy(mergedOrder, 0, order, 0, order.length);
+        }
+    }
+
+    /**
+     * Sort a range of packed identifiers by one digit and then each bucket by the following digits.
+     *
+     * @param keys        The packed identifiers.
+     * @param buffer      Scratch space the same size as {@code keys}.
+     * @param order       The permutation or {@code null}.
+     * @param orderBuffer Scratch space the same size as {@code order} or {@code null}.
+     * @param from        The position of the first identifier.
+     * @param to          The position after the last identifier.
+     * @param digit       The digit to sort by, where {@code 0} is the most significant byte.
+     * @param forks       Receives tasks for large buckets when sorting in parallel, otherwise {@code null}.
+     */
+    private static void radix(final long[] keys,
+                              final long[] buffer,
+                              final int @Nullable [] order,
+                              final int @Nullable [] orderBuffer,
+                              final int from,
+                              final int to,
+                              final int digit,
+                              final @Nullable List<RadixTask> forks) {
+        final var n = to - from;
+        if (n <= INSERTION_THRESHOLD) {
+            insertionSort(keys, order, from, to);
+            return;
+        }
+        var d = digit;
+        final var counts = new int[257];
+        while (true) {
+            if (d == DIGITS) {
+                return;
+            }
+            for (var i = from; i < to; i++) {
+                counts[digitOf(keys, i, d) + 1]++;
+            }
+            if (counts[digitOf(keys, from, d) + 1] != n) {
+                break;
+            }
+            counts[digitOf(keys, from, d) + 1] = 0;
+            d++;
+        }
+        counts[0] = from;
+        for (var b = 1; b <= 256; b++) {
+            counts[b] += counts[b - 1];
+        }
+        final var next = counts.clone();
+        for (var i = from; i < to; i++) {
+            final var target = next[digitOf(keys, i, d)]++;
+            buffer[target << 1] = keys[i << 1];
+            buffer[(target << 1) + 1] = keys[(i << 1) + 1];
+            if (order != null && orderBuffer != null) {
+                orderBuffer[target] = order[i];
+            }
+        }
+        System.arraycopy(buffer, from << 1, keys, from << 1, n << 1);
+        if (order != null && orderBuffer != null) {
+            System.arraycopy(orderBuffer, from, order, from, n);
+        }
+        for (var b = 0; b < 256; b++) {
+            final var start = counts[b];
+            final var end = counts[b + 1];
+            if (end - start > 1) {
+                if (forks != null && end - start >= PARALLEL_THRESHOLD) {
+                    forks.add(new RadixTask(keys, buffer, order, orderBuffer, start, end, d + 1));
+                } else {
+                    radix(keys, buffer, order, orderBuffer, start, end, d + 1, forks);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sort a small range of packed identifiers by insertion.
+     *
+     * @param keys  The packed identifiers.
+     * @param order The permutation or {@code null}.
+     * @param from  The position of the first identifier.
+     * @param to    The position after the last identifier.
+     */
+    private static void insertionSort(final long[] keys,
+                                      final int @Nullable [] order,
+                                      final int from,
+                                      final int to) {
+        for (var i = from + 1; i < to; i++) {
+            final var msb = keys[i << 1];
+            final var lsb = keys[(i << 1) + 1];
+            final var index = order == null ? 0 : order[i];
+            var j = i - 1;
+            while (j >= from && PackedIdentifiers.compare(keys[j << 1], keys[(j << 1) + 1], msb, lsb) > 0) {
+                keys[(j + 1) << 1] = keys[j << 1];
+                keys[((j + 1) << 1) + 1] = keys[(j << 1) + 1];
+                if (order != null) {
+                    order[j + 1] = order[j];
+                }
+                j--;
+            }
+            keys[(j + 1) << 1] = msb;
+            keys[((j + 1) << 1) + 1] = lsb;
+            if (order != null) {
+                order[j + 1] = index;
+            }
+        }
+    }
+
+    /**
+     * Get a byte-wide digit of a packed identifier.
+     *
+     * @param keys     The packed identifiers.
+     * @param position The position of the identifier.
+     * @param digit    The digit, where {@code 0} is the most significant byte.
+     * @return The digit.
+     */
+    private static int digitOf(final long[] keys,
+                               final int position,
+                               final int digit) {
+        final var word = keys[(position << 1) + (digit >>> 3)];
+        return (int) (word >>> (56 - ((digit & 7) << 3))) & 0xFF;
+    }
+
+    /**
+     * Check that packed identifiers have an even length.
+     *
+     * @param packed The packed identifiers.
+     * @return The packed identifiers.
+     * @throws IllegalArgumentException If the array has an odd length.
+     */
+    private static long[] checkPacked(final long[] packed) {
+        if ((packed.length & 1) != 0) {
+            throw new IllegalArgumentException("packed identifiers must have an even length");
+        }
+        return packed;
+    }
+
+    /**
+     * Sorts a range in a fork/join task, forking further tasks for large buckets.
+     */
+    private static final class RadixTask extends RecursiveAction {
+
+        /**
+         * The serialization version.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The packed identifiers.
+         */
+        private final long[] keys;
+
+        /**
+         * Scratch space the same size as {@link #keys}.
+         */
+        private final long[] buffer;
+
+        /**
+         * The permutation or {@code null}.
+         */
+        private final int @Nullable [] order;
+
+        /**
+         * Scratch space the same size as {@link #order} or {@code null}.
+         */
+        private final int @Nullable [] orderBuffer;
+
+        /**
+         * The position of the first identifier.
+         */
+        private final int from;
+
+        /**
+         * The position after the last identifier.
+         */
+        private final int to;
+
+        /**
+         * The digit to sort by.
+         */
+        private final int digit;
+
+        /**
+         * Construct a task.
+         *
+         * @param keys        The packed identifiers.
+         * @param buffer      Scratch space the same size as {@code keys}.
+         * @param order       The permutation or {@code null}.
+         * @param orderBuffer Scratch space the same size as {@code order} or {@code null}.
+         * @param from        The position of the first identifier.
+         * @param to          The position after the last identifier.
+         * @param digit       The digit to sort by.
+         */
+        RadixTask(final long[] keys,
+                  final long[] buffer,
+                  final int @Nullable [] order,
+                  final int @Nullable [] orderBuffer,
+                  final int from,
+                  final int to,
+                  final int digit) {
+            this.keys = keys;
+            this.buffer = buffer;
+            this.order = order;
+            this.orderBuffer = orderBuffer;
+            this.from = from;
+            this.to = to;
+            this.digit = digit;
+        }
+
+        @Override
+        protected void compute() {
+            final var forks = new ArrayList<RadixTask>();
+            radix(keys, buffer, order, orderBuffer, from, to, digit, forks);
+            ForkJoinTask.invokeAll(forks);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+/**
+ * A tournament tree of losers used to merge sorted sources of identifiers. Each internal node holds the source that
+ * lost the match played there and the root holds the overall winner, so replacing the winner with the next identifier
+ * from its source replays only the matches on the path from its leaf to the root: {@code log2(k)} comparisons of two
+ * longs, with no heap re-ordering or object comparisons. Ties are won by the source with the lower index so the merge
+ * is stable.
+ */
+abstract class LoserTree {
+
+    /**
+     * The number of sources.
+     */
+    private final int k;
+
+    /**
+     * The root at index {@code 0} holds the winner and the internal nodes {@code 1} to {@code k - 1} hold losers.
+     */
+    private final int[] tree;
+
+    /**
+     * The most significant bits of the current identifier of each source.
+     */
+    protected final long[] msbs;
+
+    /**
+     * The least significant bits of the current identifier of each source.
+     */
+    protected final long[] lsbs;
+
+    /**
+     * Set for each source that has no more identifiers.
+     */
+    protected final boolean[] exhausted;
+
+    /**
+     * Construct a tree for a number of sources. {@link #init()} must be called once the subclass is ready to
+     * {@link #load(int)} identifiers.
+     *
+     * @param k The number of sources.
+     */
+    LoserTree(final int k) {
+        this.k = k;
+        this.tree = new int[Math.max(1, k)];
+        this.msbs = new long[k];
+        this.lsbs = new long[k];
+        this.exhausted = new boolean[k];
+    }
+
+    /**
+     * Load the next identifier of a source into {@link #msbs} and {@link #lsbs} or set {@link #exhausted}.
+     *
+     * @param source The source.
+     */
+    abstract void load(int source);
+
+    /**
+     * Load the first identifier of every source and play the initial tournament.
+     */
+    final void init() {
+        if (k == 0) {
+            return;
+        }
+        for (var source = 0; source < k; source++) {
+            load(source);
+        }
+        final var winners = new int[2 * k];
+        for (var source = 0; source < k; source++) {
+            winners[k + source] = source;
+        }
+        for (var node = k - 1; node >= 1; node--) {
+            final var left = winners[2 * node];
+            final var right = winners[2 * node + 1];
+            if (beats(right, left)) {
+                winners[node] = right;
+                tree[node] = left;
+            } else {
+                winners[node] = left;
+                tree[node] = right;
+            }
+        }
+        tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    /**
+     * Determine if every source is exhausted.
+     *
+     * @return {@code true} if there are no more identifiers.
+     */
+    final boolean isEmpty() {
+        return k == 0 || exhausted[tree[0]];
+    }
+
+    /**
+     * Get the source holding the least current identifier.
+     *
+     * @return The source.
+     */
+    final int winner() {
+        return tree[0];
+    }
+
+    /**
+     * Replace the winner with the next identifier from its source and replay its path to the root.
+     */
+    final void advance() {
+        var winner = tree[0];
+        load(winner);
+        for (var node = (winner + k) >>> 1; node >= 1; node >>>= 1) {
+            final var loser = tree[node];
+            if (beats(loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Determine if the current identifier of one source precedes that of another.
+     *
+     * @param a The first source.
+     * @param b The second source.
+     * @return {@code true} if {@code a} wins.
+     */
+    private boolean beats(final int a,
+                          final int b) {
+        if (exhausted[a] || exhausted[b]) {
+            return !exhausted[a];
+        }
+        final var compare = PackedIdentifiers.compare(msbs[a], lsbs[a], msbs[b], lsbs[b]);
+        return compare < 0 || compare == 0 && a < b;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Operations on identifiers packed into a {@code long[]} as consecutive pairs of their most and least significant
+ * 64 bits. Pairs are compared as unsigned 128-bit values which is equivalent to {@link Identifier#compareTo}.
+ */
+final class PackedIdentifiers {
+
+    /**
+     * Prevent instantiation.
+     */
+    private PackedIdentifiers() {
+    }
+
+    /**
+     * Compare two identifiers given as pairs of longs.
+     *
+     * @param msb1 The most significant bits of the first identifier.
+     * @param lsb1 The least significant bits of the first identifier.
+     * @param msb2 The most significant bits of the second identifier.
+     * @param lsb2 The least significant bits of the second identifier.
+     * @return A negative, zero or positive value if the first identifier is less than, equal to or greater than the
+     * second.
+     */
+    static int compare(final long msb1,
+                       final long lsb1,
+                       final long msb2,
+                       final long lsb2) {
+        final var result = Long.compareUnsigned(msb1, msb2);
+        return result != 0 ? result : Long.compareUnsigned(lsb1, lsb2);
+    }
+
+    /**
+     * Find the first position in a sorted range whose identifier is not less than the target or, if {@code after} is
+     * {@code true}, is greater than the target. The loop has a fixed trip count for a given range length and the
+     * only data-dependent choice is a conditional move, so it does not suffer branch mispredictions.
+     *
+     * @param keys  The packed identifiers.
+     * @param from  The position of the first identifier in the range.
+     * @param to    The position after the last identifier in the range.
+     * @param msb   The most significant bits of the target.
+     * @param lsb   The least significant bits of the target.
+     * @param after {@code true} to also skip identifiers equal to the target.
+     * @return The position which is {@code to} if every identifier in the range is skipped.
+     */
+    static int search(final long[] keys,
+                      final int from,
+                      final int to,
+                      final long msb,
+                      final long lsb,
+                      final boolean after) {
+        var base = from;
+        var n = to - from;
+        if (n == 0) {
+            return from;
+        }
+        while (n > 1) {
+            final var half = n >>> 1;
+            base = skip(keys, base + half, msb, lsb, after) ? base + half : base;
+            n -= half;
+        }
+        return skip(keys, base, msb, lsb, after) ? base + 1 : base;
+    }
+
+    /**
+     * Determine if the identifier at a position precedes the target.
+     *
+     * @param keys  The packed identifiers.
+     * @param index The position of the identifier.
+     * @param msb   The most significant bits of the target.
+     * @param lsb   The least significant bits of the target.
+     * @param after {@code true} if an identifier equal to the target also precedes it.
+     * @return {@code true} if the identifier precedes the target.
+     */
+    private static boolean skip(final long[] keys,
+                                final int index,
+                                final long msb,
+                                final long lsb,
+                                final boolean after) {
+        final var keyMsb = keys[index << 1];
+        final var keyLsb = keys[(index << 1) + 1];
+        final var lsbCompare = Long.compareUnsigned(keyLsb, lsb);
+        return Long.compareUnsigned(keyMsb, msb) < 0 | (keyMsb == msb & (lsbCompare < 0 | (after & lsbCompare == 0)));
+    }
+
+    /**
+     * Pack a collection of identifiers in ascending order with duplicates removed.
+     *
+     * @param identifiers The identifiers.
+     * @return The packed identifiers.
+     */
+    static long[] sortedDistinct(final Collection<? extends Identifier> identifiers) {
+        final var keys = new long[identifiers.size() << 1];
+        var size = 0;
+        for (final var identifier : identifiers) {
+            keys[size << 1] = identifier.mostSignificantBits();
+            keys[(size << 1) + 1] = identifier.leastSignificantBits();
+            size++;
+        }
+        IdentifierSort.sort(keys);
+        var count = 0;
+        for (var i = 0; i < size; i++) {
+            final var msb = keys[i << 1];
+            final var lsb = keys[(i << 1) + 1];
+            if (count == 0 || keys[(count << 1) - 2] != msb || keys[(count << 1) - 1] != lsb) {
+                keys[count << 1] = msb;
+                keys[(count << 1) + 1] = lsb;
+                count++;
+            }
+        }
+        return count == size ? keys : Arrays.copyOf(keys, count << 1);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads values packed by {@link BitWriter} from a region of a {@link ByteBuffer} using absolute positions so the
+ * buffer's own position is not disturbed.
+ */
+final class BitReader {
+
+    /**
+     * The buffer containing the packed bits.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The position of the next byte to read.
+     */
+    private int position;
+
+    /**
+     * The position after the last byte that may be read.
+     */
+    private final int limit;
+
+    /**
+     * Bits that have been read from the buffer but not consumed, held in the low-order bits.
+     */
+    private long pending;
+
+    /**
+     * The number of bits held in {@link #pending}.
+     */
+    private int pendingBits;
+
+    /**
+     * Construct a reader for a region of a buffer.
+     *
+     * @param buffer   The buffer.
+     * @param position The position of the first byte.
+     * @param limit    The position after the last byte.
+     */
+    BitReader(final ByteBuffer buffer,
+              final int position,
+              final int limit) {
+        this.buffer = buffer;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    /**
+     * Read a value.
+     *
+     * @param n The number of bits to read which must be between {@code 0} and {@code 64}.
+     * @return The value in the low-order bits.
+     * @throws IllegalArgumentException If the region is exhausted.
+     */
+    long read(final int n) {
+        if (n > 56) {
+            final var high = read(n - 32);
+            return (high << 32) | read(32);
+        }
+        while (pendingBits < n) {
+            if (position >= limit) {
+                throw new IllegalArgumentException("invalid identifier sequence");
+            }
+            pending = (pending << 8) | (buffer.get(position++) & 0xffL);
+            pendingBits += 8;
+        }
+        pendingBits -= n;
+        return (pending >>> pendingBits) & ((1L << n) - 1L);
+    }
+
+    /**
+     * Read an unsigned value written by {@link BitWriter#writeVarLong(long)}.
+     *
+     * @return The value.
+     * @throws IllegalArgumentException If the region is exhausted or the code is invalid.
+     */
+    long readVarLong() {
+        var zeros = 0;
+        while (read(1) == 0L) {
+            if (++zeros > 6) {
+                throw new IllegalArgumentException("invalid identifier sequence");
+            }
+        }
+        final var bitLength = (int) (((1L << zeros) | read(zeros)) - 1L);
+        if (bitLength > 64) {
+            throw new IllegalArgumentException("invalid identifier sequence");
+        }
+        return bitLength <= 1 ? bitLength : (1L << (bitLength - 1)) | read(bitLength - 1);
+    }
+}
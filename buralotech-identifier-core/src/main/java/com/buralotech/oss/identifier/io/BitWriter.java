@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+import java.util.Arrays;
+
+/**
+ * Packs values of arbitrary bit length most significant bit first into a growable byte array.
+ */
+final class BitWriter {
+
+    /**
+     * The packed bytes.
+     */
+    private byte[] bytes = new byte[256];
+
+    /**
+     * The number of complete bytes.
+     */
+    private int length;
+
+    /**
+     * Bits that have not yet filled a complete byte, held in the low-order bits.
+     */
+    private long pending;
+
+    /**
+     * The number of bits held in {@link #pending} which is always less than 8 between calls.
+     */
+    private int pendingBits;
+
+    /**
+     * Write the low-order bits of a value.
+     *
+     * @param value The value.
+     * @param n     The number of bits to write which must be between {@code 0} and {@code 64}.
+     */
+    void write(final long value,
+               final int n) {
+        if (n > 56) {
+            write(value >>> 32, n - 32);
+            write(value, 32);
+            return;
+        }
+        pending = (pending << n) | (value & ((1L << n) - 1L));
+        pendingBits += n;
+        while (pendingBits >= 8) {
+            pendingBits -= 8;
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, length << 1);
+            }
+            bytes[length++] = (byte) (pending >>> pendingBits);
+        }
+    }
+
+    /**
+     * Write an unsigned value using a prefix code whose length grows with the logarithm of the value: the bit length
+     * of the value is written as an Elias gamma code followed by the value without its leading one bit. Zero takes a
+     * single bit and small values take a few bits.
+     *
+     * @param value The value which is treated as unsigned.
+     */
+    void writeVarLong(final long value) {
+        final var bitLength = 64 - Long.numberOfLeadingZeros(value);
+        final var gamma = bitLength + 1;
+        final var gammaBits = 32 - Integer.numberOfLeadingZeros(gamma);
+        write(0L, gammaBits - 1);
+        write(gamma, gammaBits);
+        if (bitLength > 1) {
+            write(value, bitLength - 1);
+        }
+    }
+
+    /**
+     * Get the number of bytes needed to hold the bits written so far.
+     *
+     * @return The number of bytes.
+     */
+    int byteLength() {
+        return length + (pendingBits > 0 ? 1 : 0);
+    }
+
+    /**
+     * Get the bits written so far padded with zeros to a whole number of bytes.
+     *
+     * @return The packed bytes.
+     */
+    byte[] toByteArray() {
+        final var result = Arrays.copyOf(bytes, byteLength());
+        if (pendingBits > 0) {
+            result[length] = (byte) (pending << (8 - pendingBits));
+        }
+        return result;
+    }
+
+    /**
+     * Discard the bits written so far.
+     */
+    void reset() {
+        length = 0;
+        pending = 0L;
+        pendingBits = 0;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+/**
+ * Constants describing the identifier file format documented in {@link com.buralotech.oss.identifier.io}.
+ */
+final class IdentifierFileFormat {
+
+    /**
+     * The ASCII characters {@code BRLIDSET} as a big-endian long.
+     */
+    static final long MAGIC = 0x42524C4944534554L;
+
+    /**
+     * The current format version.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The size of the header in bytes.
+     */
+    static final int HEADER_SIZE = 64;
+
+    /**
+     * The size of a record in bytes.
+     */
+    static final int RECORD_SIZE = 16;
+
+    /**
+     * The offset of the format version in the header.
+     */
+    static final int VERSION_OFFSET = 8;
+
+    /**
+     * The offset of the sparse index interval in the header.
+     */
+    static final int INTERVAL_OFFSET = 12;
+
+    /**
+     * The offset of the record count in the header.
+     */
+    static final int COUNT_OFFSET = 16;
+
+    /**
+     * The offset of the sparse index block offset in the header.
+     */
+    static final int INDEX_OFFSET = 24;
+
+    /**
+     * Prevent instantiation.
+     */
+    private IdentifierFileFormat() {
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.temporal.Temporal;
+import java.util.Iterator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.buralotech.oss.identifier.io.IdentifierFileFormat.*;
+
+/**
+ * Serves lookups from an identifier file that is memory-mapped rather than loaded into the heap, so files holding
+ * billions of identifiers can be queried with only the touched pages resident. Identifier objects are only created
+ * for results. The reader may be used by multiple threads and must be closed to unmap the file.
+ */
+public final class IdentifierFileReader implements Closeable, Iterable<Identifier> {
+
+    /**
+     * Layout used to read big-endian longs from the mapped file.
+     */
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Used to create identifiers from the records.
+     */
+    private final IdentifierService identifierService;
+
+    /**
+     * Owns the mapping of the file.
+     */
+    private final Arena arena;
+
+    /**
+     * The mapped records.
+     */
+    private final MemorySegment records;
+
+    /**
+     * The mapped sparse index or an empty segment if there is no sparse index.
+     */
+    private final MemorySegment index;
+
+    /**
+     * The number of records.
+     */
+    private final long count;
+
+    /**
+     * The number of records covered by each sparse index entry.
+     */
+    private final long indexInterval;
+
+    /**
+     * Map an identifier file.
+     *
+     * @param identifierService Used to create identifiers from the records.
+     * @param path              The file path.
+     * @throws IOException If the file could not be mapped or is not a valid identifier file.
+     */
+    public IdentifierFileReader(final IdentifierService identifierService,
+                                final Path path) throws IOException {
+        this.identifierService = identifierService;
+        this.arena = Arena.ofShared();
+        try (var channel = FileChannel.open(path)) {
+            final var file = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size(), arena);
+            if (file.byteSize() < HEADER_SIZE || file.get(LONG, 0L) != MAGIC) {
+                throw new IOException("not an identifier file");
+            }
+            if (getInt(file, VERSION_OFFSET) != VERSION) {
+                throw new IOException("unsupported identifier file version");
+            }
+            this.count = file.get(LONG, COUNT_OFFSET);
+            final var interval = getInt(file, INTERVAL_OFFSET);
+            final var indexOffset = file.get(LONG, INDEX_OFFSET);
+            if (count < 0L || count > (file.byteSize() - HEADER_SIZE) / RECORD_SIZE) {
+                throw new IOException("truncated identifier file");
+            }
+            this.records = file.asSlice(HEADER_SIZE, count * RECORD_SIZE);
+            if (interval > 0 && indexOffset > 0L) {
+                final var indexSize = ((count + interval - 1) / interval) * RECORD_SIZE;
+                if (indexOffset > file.byteSize() - indexSize) {
+                    throw new IOException("truncated identifier file");
+                }
+                this.index = file.asSlice(indexOffset, indexSize);
+                this.indexInterval = interval;
+            } else {
+                this.index = MemorySegment.NULL;
+                this.indexInterval = count;
+            }
+        } catch (final IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the number of identifiers in the file.
+     *
+     * @return The number of identifiers.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Determine if an identifier is in the file.
+     *
+     * @param identifier The identifier.
+     * @return {@code true} if the identifier is in the file. Otherwise, {@code false}.
+     */
+    public boolean contains(final Identifier identifier) {
+        final var msb = identifier.mostSignificantBits();
+        final var lsb = identifier.leastSignificantBits();
+        final var position = search(msb, lsb, false);
+        return position < count
+                && records.getAtIndex(LONG, position << 1) == msb
+                && records.getAtIndex(LONG, (position << 1) + 1) == lsb;
+    }
+
+    /**
+     * Stream the identifiers between two bounds in ascending order.
+     *
+     * @param lower The inclusive lower bound.
+     * @param upper The inclusive upper bound.
+     * @return The identifiers that are greater than or equal to {@code lower} and less than or equal to {@code upper}.
+     */
+    public Stream<Identifier> range(final Identifier lower,
+                                    final Identifier upper) {
+        final var start = search(lower.mostSignificantBits(), lower.leastSignificantBits(), false);
+        final var end = search(upper.mostSignificantBits(), upper.leastSignificantBits(), true);
+        return LongStream.range(start, Math.max(start, end)).mapToObj(this::identifierAt);
+    }
+
+    /**
+     * Stream the time-based identifiers that were generated between two points in time.
+     *
+     * @param start The inclusive start of the time window.
+     * @param end   The inclusive end of the time window.
+     * @return The identifiers generated within the time window.
+     * @throws UnsupportedOperationException If the identifiers are not time-based.
+     * @throws IllegalArgumentException      If the temporal type is not supported.
+     */
+    public Stream<Identifier> range(final Temporal start,
+                                    final Temporal end) {
+        return range(identifierService.asLowerBound(start), identifierService.asUpperBound(end));
+    }
+
+    /**
+     * Stream all the identifiers in ascending order.
+     *
+     * @return The identifiers.
+     */
+    public Stream<Identifier> stream() {
+        return LongStream.range(0L, count).mapToObj(this::identifierAt);
+    }
+
+    /**
+     * Iterate over all the identifiers in ascending order.
+     *
+     * @return The iterator.
+     */
+    @Override
+    public Iterator<Identifier> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Unmap the file. The reader and any streams obtained from it must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    /**
+     * Find the first record that is not less than (or, if {@code after} is set, greater than) the target. The sparse
+     * index is searched first to select the run of records that can contain the target.
+     *
+     * @param msb   The most significant bits of the target.
+     * @param lsb   The least significant bits of the target.
+     * @param after {@code true} to also skip records equal to the target.
+     * @return The position of the record or the number of records if there is none.
+     */
+    private long search(final long msb,
+                        final long lsb,
+                        final boolean after) {
+        if (index.byteSize() == 0L) {
+            return search(records, 0L, count, msb, lsb, after);
+        }
+        final var entries = index.byteSize() / RECORD_SIZE;
+        final var run = search(index, 0L, entries, msb, lsb, after) - 1L;
+        if (run < 0L) {
+            return 0L;
+        }
+        final var from = run * indexInterval;
+        return search(records, from, Math.min(from + indexInterval, count), msb, lsb, after);
+    }
+
+    /**
+     * Find the first record in a sorted range that is not less than (or, if {@code after} is set, greater than) the
+     * target.
+     *
+     * @param segment The records.
+     * @param from    The position of the first record in the range.
+     * @param to      The position after the last record in the range.
+     * @param msb     The most significant bits of the target.
+     * @param lsb     The least significant bits of the target.
+     * @param after   {@code true} to also skip records equal to the target.
+     * @return The position of the record or {@code to} if there is none.
+     */
+    private static long search(final MemorySegment segment,
+                               final long from,
+                               final long to,
+                               final long msb,
+                               final long lsb,
+                               final boolean after) {
+        var base = from;
+        var n = to - from;
+        if (n == 0L) {
+            return from;
+        }
+        while (n > 1L) {
+            final var half = n >>> 1;
+            base = skip(segment, base + half, msb, lsb, after) ? base + half : base;
+            n -= half;
+        }
+        return skip(segment, base, msb, lsb, after) ? base + 1L : base;
+    }
+
+    /**
+     * Determine if the record at a position precedes the target.
+     *
+     * @param segment  The records.
+     * @param position The position of the record.
+     * @param msb      The most significant bits of the target.
+     * @param lsb      The least significant bits of the target.
+     * @param after    {@code true} if a record equal to the target also precedes it.
+     * @return {@code true} if the record precedes the target.
+     */
+    private static boolean skip(final MemorySegment segment,
+                                final long position,
+                                final long msb,
+                                final long lsb,
+                                final boolean after) {
+        final var recordMsb = segment.getAtIndex(LONG, position << 1);
+        final var recordLsb = segment.getAtIndex(LONG, (position << 1) + 1);
+        final var lsbCompare = Long.compareUnsigned(recordLsb, lsb);
+        return Long.compareUnsigned(recordMsb, msb) < 0 | (recordMsb == msb & (lsbCompare < 0 | (after & lsbCompare == 0)));
+    }
+
+    /**
+     * Create the identifier for the record at a position.
+     *
+     * @param position The position.
+     * @return The identifier.
+     */
+    private Identifier identifierAt(final long position) {
+        return identifierService.fromBits(records.getAtIndex(LONG, position << 1), records.getAtIndex(LONG, (position << 1) + 1));
+    }
+
+    /**
+     * Read a big-endian int from the header.
+     *
+     * @param file   The mapped file.
+     * @param offset The offset in the header.
+     * @return The value.
+     */
+    private static int getInt(final MemorySegment file,
+                              final long offset) {
+        return file.get(ValueLayout.JAVA_INT.withOrder(ByteOrder.BIG_ENDIAN), offset);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+import com.buralotech.oss.identifier.api.Identifier;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static com.buralotech.oss.identifier.io.IdentifierFileFormat.*;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Streams identifiers in ascending order to an identifier file. The records are buffered and written sequentially;
+ * the sparse index and the final header are written when the writer is closed.
+ */
+public final class IdentifierFileWriter implements Closeable {
+
+    /**
+     * The default number of records covered by each sparse index entry.
+     */
+    public static final int DEFAULT_INDEX_INTERVAL = 4096;
+
+    /**
+     * The size of the write buffer in bytes.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The file being written.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Buffers records before they are written to the file.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * The number of records covered by each sparse index entry or {@code 0} for no sparse index.
+     */
+    private final int indexInterval;
+
+    /**
+     * The number of records written.
+     */
+    private long count;
+
+    /**
+     * The most significant bits of the last record written.
+     */
+    private long lastMsb;
+
+    /**
+     * The least significant bits of the last record written.
+     */
+    private long lastLsb;
+
+    /**
+     * Set when the writer has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Create or replace an identifier file with a sparse index using the default interval.
+     *
+     * @param path The file path.
+     * @throws IOException If the file could not be created.
+     */
+    public IdentifierFileWriter(final Path path) throws IOException {
+        this(path, DEFAULT_INDEX_INTERVAL);
+    }
+
+    /**
+     * Create or replace an identifier file.
+     *
+     * @param path          The file path.
+     * @param indexInterval The number of records covered by each sparse index entry or {@code 0} for no sparse index.
+     * @throws IOException              If the file could not be created.
+     * @throws IllegalArgumentException If the index interval is negative.
+     */
+    public IdentifierFileWriter(final Path path,
+                                final int indexInterval) throws IOException {
+        if (indexInterval < 0) {
+            throw new IllegalArgumentException("index interval must not be negative");
+        }
+        this.indexInterval = indexInterval;
+        this.channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, READ, WRITE);
+        this.channel.position(HEADER_SIZE);
+    }
+
+    /**
+     * Write an identifier.
+     *
+     * @param identifier The identifier which must be greater than the previously written identifier.
+     * @throws IOException              If the identifier could not be written.
+     * @throws IllegalArgumentException If the identifier is not greater than the previously written identifier.
+     */
+    public void write(final Identifier identifier) throws IOException {
+        write(identifier.mostSignificantBits(), identifier.leastSignificantBits());
+    }
+
+    /**
+     * Write an identifier given as the most and least significant 64 bits of its binary representation.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @throws IOException              If the identifier could not be written.
+     * @throws IllegalArgumentException If the identifier is not greater than the previously written identifier.
+     */
+    public void write(final long msb,
+                      final long lsb) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("writer is closed");
+        }
+        if (count > 0 && (Long.compareUnsigned(msb, lastMsb) < 0 || msb == lastMsb && Long.compareUnsigned(lsb, lastLsb) <= 0)) {
+            throw new IllegalArgumentException("identifiers must be written in strictly ascending order");
+        }
+        if (buffer.remaining() < RECORD_SIZE) {
+            flush();
+        }
+        buffer.putLong(msb).putLong(lsb);
+        lastMsb = msb;
+        lastLsb = lsb;
+        count++;
+    }
+
+    /**
+     * Get the number of identifiers written so far.
+     *
+     * @return The number of identifiers.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Write the buffered records, the sparse index and the header and close the file.
+     *
+     * @throws IOException If the file could not be completed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (channel) {
+            flush();
+            final var indexOffset = indexInterval == 0 || count == 0 ? 0L : writeIndex();
+            buffer.clear();
+            buffer.putLong(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(indexOffset == 0L ? 0 : indexInterval)
+                    .putLong(count)
+                    .putLong(indexOffset);
+            while (buffer.position() < HEADER_SIZE) {
+                buffer.put((byte) 0);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+        }
+    }
+
+    /**
+     * Append the sparse index block by reading back every interval-th record.
+     *
+     * @return The offset of the sparse index block.
+     * @throws IOException If the sparse index could not be written.
+     */
+    private long writeIndex() throws IOException {
+        final var indexOffset = channel.position();
+        final var record = ByteBuffer.allocate(RECORD_SIZE);
+        for (var i = 0L; i < count; i += indexInterval) {
+            record.clear();
+            final var position = HEADER_SIZE + i * RECORD_SIZE;
+            while (record.hasRemaining()) {
+                if (channel.read(record, position + record.position()) < 0) {
+                    throw new IOException("unexpected end of file");
+                }
+            }
+            record.flip();
+            if (buffer.remaining() < RECORD_SIZE) {
+                flush();
+            }
+            buffer.put(record);
+        }
+        flush();
+        return indexOffset;
+    }
+
+    /**
+     * Write the buffered bytes at the current position.
+     *
+     * @throws IOException If the bytes could not be written.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+/**
+ * Constants describing the compressed identifier sequence format documented in {@link com.buralotech.oss.identifier.io}.
+ */
+final class IdentifierSequenceFormat {
+
+    /**
+     * The ASCII characters {@code BRLIDSEQ} as a big-endian long.
+     */
+    static final long MAGIC = 0x42524C4944534551L;
+
+    /**
+     * The current format version.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The size of the stream header in bytes.
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * The size of a block header in bytes.
+     */
+    static final int BLOCK_HEADER_SIZE = 24;
+
+    /**
+     * The size of a block index entry in bytes.
+     */
+    static final int INDEX_ENTRY_SIZE = 24;
+
+    /**
+     * The size of the trailer in bytes.
+     */
+    static final int TRAILER_SIZE = 28;
+
+    /**
+     * The value of the two most significant bits of the least significant half for the RFC 9562 variant.
+     */
+    static final long RFC_VARIANT = 2L;
+
+    /**
+     * The number of bits of the least significant half that follow the variant.
+     */
+    static final int TAIL_BITS = 62;
+
+    /**
+     * Prevent instantiation.
+     */
+    private IdentifierSequenceFormat() {
+    }
+}
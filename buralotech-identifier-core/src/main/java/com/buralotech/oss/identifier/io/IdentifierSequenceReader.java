@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.buralotech.oss.identifier.io.IdentifierSequenceFormat.*;
+
+/**
+ * Decodes a compressed identifier sequence written by {@link IdentifierSequenceWriter} from a {@link ByteBuffer},
+ * which may be a memory-mapped file. The block index at the end of the sequence allows iteration to start at any
+ * identifier after decoding at most one block.
+ */
+public final class IdentifierSequenceReader implements Iterable<Identifier> {
+
+    /**
+     * Used to create identifiers from the decoded bits.
+     */
+    private final IdentifierService identifierService;
+
+    /**
+     * The encoded sequence.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The number of blocks.
+     */
+    private final int blocks;
+
+    /**
+     * The total number of identifiers.
+     */
+    private final long count;
+
+    /**
+     * The offset of the block index.
+     */
+    private final int indexOffset;
+
+    /**
+     * Construct a reader for the encoded sequence between the position and limit of a buffer.
+     *
+     * @param identifierService Used to create identifiers from the decoded bits.
+     * @param buffer            The encoded sequence.
+     * @throws IllegalArgumentException If the buffer does not contain a valid identifier sequence.
+     */
+    public IdentifierSequenceReader(final IdentifierService identifierService,
+                                    final ByteBuffer buffer) {
+        this.identifierService = identifierService;
+        this.buffer = buffer.slice(buffer.position(), buffer.remaining()).order(ByteOrder.BIG_ENDIAN);
+        final var size = this.buffer.limit();
+        if (size < HEADER_SIZE + TRAILER_SIZE
+                || this.buffer.getLong(0) != MAGIC
+                || this.buffer.getInt(8) != VERSION
+                || this.buffer.getLong(size - 8) != MAGIC) {
+            throw new IllegalArgumentException("invalid identifier sequence");
+        }
+        this.blocks = this.buffer.getInt(size - TRAILER_SIZE);
+        this.count = this.buffer.getLong(size - TRAILER_SIZE + 4);
+        final var offset = this.buffer.getLong(size - 16);
+        if (blocks < 0 || count < 0L || offset < HEADER_SIZE || offset + (long) blocks * INDEX_ENTRY_SIZE != size - TRAILER_SIZE) {
+            throw new IllegalArgumentException("invalid identifier sequence");
+        }
+        this.indexOffset = (int) offset;
+    }
+
+    /**
+     * Get the number of identifiers in the sequence.
+     *
+     * @return The number of identifiers.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Iterate over all the identifiers in ascending order.
+     *
+     * @return The iterator.
+     */
+    @Override
+    public Iterator<Identifier> iterator() {
+        return new SequenceIterator(0);
+    }
+
+    /**
+     * Iterate over the identifiers that are greater than or equal to an identifier in ascending order. Only the block
+     * that may contain the identifier is decoded to find the starting point.
+     *
+     * @param from The inclusive lower bound.
+     * @return The iterator.
+     */
+    public Iterator<Identifier> iterator(final Identifier from) {
+        final var msb = from.mostSignificantBits();
+        final var lsb = from.leastSignificantBits();
+        var low = 0;
+        var high = blocks;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            final var entry = indexOffset + mid * INDEX_ENTRY_SIZE;
+            final var entryMsb = buffer.getLong(entry + 8);
+            final var entryLsb = buffer.getLong(entry + 16);
+            if (Long.compareUnsigned(entryMsb, msb) < 0 || entryMsb == msb && Long.compareUnsigned(entryLsb, lsb) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        final var iterator = new SequenceIterator(Math.max(0, low - 1));
+        iterator.skipTo(msb, lsb);
+        return iterator;
+    }
+
+    /**
+     * Stream all the identifiers in ascending order.
+     *
+     * @return The identifiers.
+     */
+    public Stream<Identifier> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), count, Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Decodes the blocks in order starting from a given block.
+     */
+    private final class SequenceIterator implements Iterator<Identifier> {
+
+        /**
+         * The next block to decode.
+         */
+        private int block;
+
+        /**
+         * Reads the differences of the current block.
+         */
+        private BitReader bits;
+
+        /**
+         * The number of identifiers remaining in the current block.
+         */
+        private int remaining;
+
+        /**
+         * The version nibble of the current block.
+         */
+        private int version;
+
+        /**
+         * Set when the next identifier is the first of a block.
+         */
+        private boolean first;
+
+        /**
+         * Set when {@link #msb} and {@link #lsb} hold an identifier that has been decoded but not yet returned.
+         */
+        private boolean ready;
+
+        /**
+         * The most significant bits of the current identifier.
+         */
+        private long msb;
+
+        /**
+         * The least significant bits of the current identifier.
+         */
+        private long lsb;
+
+        /**
+         * Construct an iterator starting at a block.
+         *
+         * @param block The block.
+         */
+        SequenceIterator(final int block) {
+            this.block = block;
+            this.bits = new BitReader(buffer, 0, 0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return ready || advance();
+        }
+
+        @Override
+        public Identifier next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return identifierService.fromBits(msb, lsb);
+        }
+
+        /**
+         * Decode identifiers until one that is not less than the target is ready.
+         *
+         * @param targetMsb The most significant bits of the target.
+         * @param targetLsb The least significant bits of the target.
+         */
+        void skipTo(final long targetMsb,
+                    final long targetLsb) {
+            while (hasNext() && (Long.compareUnsigned(msb, targetMsb) < 0 || msb == targetMsb && Long.compareUnsigned(lsb, targetLsb) < 0)) {
+                ready = false;
+            }
+        }
+
+        /**
+         * Decode the next identifier.
+         *
+         * @return {@code true} if an identifier was decoded or {@code false} if the sequence is exhausted.
+         */
+        private boolean advance() {
+            if (remaining == 0) {
+                if (block == blocks) {
+                    return false;
+                }
+                final var offset = (int) buffer.getLong(indexOffset + block * INDEX_ENTRY_SIZE);
+                remaining = buffer.getInt(offset);
+                msb = buffer.getLong(offset + 4);
+                lsb = buffer.getLong(offset + 12);
+                final var length = buffer.getInt(offset + 20);
+                bits = new BitReader(buffer, offset + BLOCK_HEADER_SIZE, offset + BLOCK_HEADER_SIZE + length);
+                version = IdentifierSequenceWriter.version(msb);
+                first = true;
+                block++;
+            }
+            if (first) {
+                first = false;
+            } else {
+                decode();
+            }
+            remaining--;
+            ready = true;
+            return true;
+        }
+
+        /**
+         * Apply the next set of differences to the current identifier.
+         */
+        private void decode() {
+            if (version == 7) {
+                final var timeDelta = bits.readVarLong();
+                final var randA = timeDelta == 0L ? (msb & 0x0FFFL) + bits.readVarLong() : bits.read(12);
+                msb = (((msb >>> 16) + timeDelta) << 16) | (msb & 0xF000L) | randA;
+            } else {
+                msb += bits.readVarLong();
+            }
+            if (bits.read(1) == 0L) {
+                lsb = (RFC_VARIANT << TAIL_BITS) | bits.read(TAIL_BITS);
+            }
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+import com.buralotech.oss.identifier.api.Identifier;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import static com.buralotech.oss.identifier.io.IdentifierSequenceFormat.*;
+
+/**
+ * Encodes identifiers in ascending order as a compressed identifier sequence. Each block stores its first identifier
+ * in full and the rest as differences from their predecessor:
+ * <ul>
+ * <li>Type 7 identifiers store the change in the millisecond timestamp as a variable length code, then
+ * {@code rand_a} as a difference when the timestamp is unchanged or as 12 raw bits when it has moved on.</li>
+ * <li>Other identifiers store the difference of the most significant 64 bits as a variable length code, which is
+ * small for Type 6 identifiers because the timestamp occupies the most significant bits.</li>
+ * <li>The least significant 64 bits are a single bit when they repeat the predecessor, which is typical of Type 6
+ * identifiers from one node, or otherwise one bit followed by the 62 bits after the variant.</li>
+ * </ul>
+ * The random bits of Type 4 and Type 7 identifiers cannot be compressed so the saving for those comes from the
+ * timestamp alone, whereas Type 6 identifiers from a single node shrink to a few bytes each.
+ */
+public final class IdentifierSequenceWriter implements Closeable {
+
+    /**
+     * The default number of identifiers in a block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    /**
+     * The encoded stream.
+     */
+    private final DataOutputStream output;
+
+    /**
+     * The maximum number of identifiers in a block.
+     */
+    private final int blockSize;
+
+    /**
+     * Accumulates the differences for the current block.
+     */
+    private final BitWriter bits = new BitWriter();
+
+    /**
+     * The block index entries as triples of offset, most significant bits and least significant bits.
+     */
+    private long[] index = new long[3 * 64];
+
+    /**
+     * The number of completed blocks.
+     */
+    private int blocks;
+
+    /**
+     * The number of bytes written to the stream.
+     */
+    private long position;
+
+    /**
+     * The total number of identifiers written.
+     */
+    private long count;
+
+    /**
+     * The number of identifiers in the current block.
+     */
+    private int blockCount;
+
+    /**
+     * The most significant bits of the first identifier in the current block.
+     */
+    private long baseMsb;
+
+    /**
+     * The least significant bits of the first identifier in the current block.
+     */
+    private long baseLsb;
+
+    /**
+     * The most significant bits of the previous identifier.
+     */
+    private long previousMsb;
+
+    /**
+     * The least significant bits of the previous identifier.
+     */
+    private long previousLsb;
+
+    /**
+     * Set when the writer has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Construct a writer that uses the default block size.
+     *
+     * @param output The stream to which the encoded sequence is written.
+     * @throws IOException If the header could not be written.
+     */
+    public IdentifierSequenceWriter(final OutputStream output) throws IOException {
+        this(output, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Construct a writer.
+     *
+     * @param output    The stream to which the encoded sequence is written.
+     * @param blockSize The maximum number of identifiers in a block. Smaller blocks allow finer seeking at the cost
+     *                  of a 48 byte overhead per block.
+     * @throws IOException              If the header could not be written.
+     * @throws IllegalArgumentException If the block size is less than one.
+     */
+    public IdentifierSequenceWriter(final OutputStream output,
+                                    final int blockSize) throws IOException {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("block size must be at least one");
+        }
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        this.blockSize = blockSize;
+        this.output.writeLong(MAGIC);
+        this.output.writeInt(VERSION);
+        this.output.writeInt(blockSize);
+        this.position = HEADER_SIZE;
+    }
+
+    /**
+     * Write an identifier.
+     *
+     * @param identifier The identifier which must be greater than the previously written identifier.
+     * @throws IOException              If the identifier could not be written.
+     * @throws IllegalArgumentException If the identifier is not greater than the previously written identifier.
+     */
+    public void write(final Identifier identifier) throws IOException {
+        write(identifier.mostSignificantBits(), identifier.leastSignificantBits());
+    }
+
+    /**
+     * Write an identifier given as the most and least significant 64 bits of its binary representation.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @throws IOException              If the identifier could not be written.
+     * @throws IllegalArgumentException If the identifier is not greater than the previously written identifier.
+     */
+    public void write(final long msb,
+                      final long lsb) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("writer is closed");
+        }
+        if (count > 0 && (Long.compareUnsigned(msb, previousMsb) < 0 || msb == previousMsb && Long.compareUnsigned(lsb, previousLsb) <= 0)) {
+            throw new IllegalArgumentException("identifiers must be written in strictly ascending order");
+        }
+        if (blockCount == blockSize
+                || blockCount > 0 && (version(msb) != version(baseMsb) || lsb != previousLsb && lsb >>> TAIL_BITS != RFC_VARIANT)) {
+            flushBlock();
+        }
+        if (blockCount == 0) {
+            baseMsb = msb;
+            baseLsb = lsb;
+        } else {
+            encode(msb, lsb);
+        }
+        previousMsb = msb;
+        previousLsb = lsb;
+        blockCount++;
+        count++;
+    }
+
+    /**
+     * Get the number of identifiers written so far.
+     *
+     * @return The number of identifiers.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Write the last block, the block index and the trailer and close the underlying stream.
+     *
+     * @throws IOException If the sequence could not be completed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (output) {
+            if (blockCount > 0) {
+                flushBlock();
+            }
+            final var indexOffset = position;
+            for (var i = 0; i < blocks * 3; i++) {
+                output.writeLong(index[i]);
+            }
+            output.writeInt(blocks);
+            output.writeLong(count);
+            output.writeLong(indexOffset);
+            output.writeLong(MAGIC);
+        }
+    }
+
+    /**
+     * Encode an identifier as differences from its predecessor in the current block.
+     *
+     * @param msb The most significant bits.
+     * @param lsb The least significant bits.
+     */
+    private void encode(final long msb,
+                        final long lsb) {
+        if (version(baseMsb) == 7) {
+            final var timeDelta = (msb >>> 16) - (previousMsb >>> 16);
+            bits.writeVarLong(timeDelta);
+            if (timeDelta == 0L) {
+                bits.writeVarLong((msb & 0x0FFFL) - (previousMsb & 0x0FFFL));
+            } else {
+                bits.write(msb, 12);
+            }
+        } else {
+            bits.writeVarLong(msb - previousMsb);
+        }
+        if (lsb == previousLsb) {
+            bits.write(1L, 1);
+        } else {
+            bits.write(0L, 1);
+            bits.write(lsb, TAIL_BITS);
+        }
+    }
+
+    /**
+     * Write the current block and record it in the block index.
+     *
+     * @throws IOException If the block could not be written.
+     */
+    private void flushBlock() throws IOException {
+        if (blocks * 3 == index.length) {
+            index = Arrays.copyOf(index, index.length << 1);
+        }
+        index[blocks * 3] = position;
+        index[blocks * 3 + 1] = baseMsb;
+        index[blocks * 3 + 2] = baseLsb;
+        blocks++;
+        final var payload = bits.toByteArray();
+        output.writeInt(blockCount);
+        output.writeLong(baseMsb);
+        output.writeLong(baseLsb);
+        output.writeInt(payload.length);
+        output.write(payload);
+        position += BLOCK_HEADER_SIZE + payload.length;
+        bits.reset();
+        blockCount = 0;
+    }
+
+    /**
+     * Get the version nibble from the most significant bits.
+     *
+     * @param msb The most significant bits.
+     * @return The version.
+     */
+    static int version(final long msb) {
+        return (int) (msb >>> 12) & 0x0F;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Reading and writing large sets of identifiers.
+ * <h2>Identifier file format</h2>
+ * An identifier file is written by {@link com.buralotech.oss.identifier.io.IdentifierFileWriter} and read by
+ * {@link com.buralotech.oss.identifier.io.IdentifierFileReader}. All multi-byte values are big-endian.
+ * <table>
+ *     <caption>Header (64 bytes)</caption>
+ *     <tr><th>Offset</th><th>Size</th><th>Field</th></tr>
+ *     <tr><td>0</td><td>8</td><td>Magic number, the ASCII characters {@code BRLIDSET}</td></tr>
+ *     <tr><td>8</td><td>4</td><td>Format version, currently {@code 1}</td></tr>
+ *     <tr><td>12</td><td>4</td><td>Number of records covered by each sparse index entry or {@code 0} if there is no
+ *     sparse index</td></tr>
+ *     <tr><td>16</td><td>8</td><td>Number of records</td></tr>
+ *     <tr><td>24</td><td>8</td><td>Offset of the sparse index block or {@code 0} if there is no sparse index</td></tr>
+ *     <tr><td>32</td><td>32</td><td>Reserved, must be zero</td></tr>
+ * </table>
+ * The header is followed by the records which are the 16-byte binary representations of the identifiers in strictly
+ * ascending unsigned order. The optional sparse index block follows the records and holds a copy of every
+ * <i>n</i>th record, where <i>n</i> is the index interval from the header, so that a reader can narrow a search to a
+ * single run of <i>n</i> records by searching the much smaller index first.
+ * <h2>Identifier sequence format</h2>
+ * A compressed identifier sequence is written by {@link com.buralotech.oss.identifier.io.IdentifierSequenceWriter}
+ * and read by {@link com.buralotech.oss.identifier.io.IdentifierSequenceReader}. All multi-byte values are big-endian.
+ * <table>
+ *     <caption>Layout</caption>
+ *     <tr><th>Part</th><th>Size</th><th>Content</th></tr>
+ *     <tr><td>Header</td><td>16</td><td>Magic number, the ASCII characters {@code BRLIDSEQ}, the format version
+ *     ({@code 1}) and the maximum number of identifiers in a block as a 4 byte integer</td></tr>
+ *     <tr><td>Blocks</td><td>Variable</td><td>For each block the number of identifiers (4 bytes), the first
+ *     identifier (16 bytes), the length of the packed differences (4 bytes) and the packed differences</td></tr>
+ *     <tr><td>Block index</td><td>24 per block</td><td>For each block its offset from the start of the header
+ *     (8 bytes) and its first identifier (16 bytes)</td></tr>
+ *     <tr><td>Trailer</td><td>28</td><td>The number of blocks (4 bytes), the number of identifiers (8 bytes), the
+ *     offset of the block index (8 bytes) and the magic number</td></tr>
+ * </table>
+ * The packed differences are described by {@link com.buralotech.oss.identifier.io.IdentifierSequenceWriter}. All
+ * identifiers in a block share the version of its first identifier.
+ */
+@NullMarked
+package com.buralotech.oss.identifier.io;
+
+import org.jspecify.annotations.NullMarked;
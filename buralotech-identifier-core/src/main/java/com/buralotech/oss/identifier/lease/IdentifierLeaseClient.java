@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.lease;
+
+import com.buralotech.oss.identifier.api.ForwardingIdentifierService;
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An identifier service that generates identifiers from blocks leased from an {@link IdentifierLeaseServer}. As soon
+ * as a block is taken into use the next one is requested on a background thread, so {@link #generate()} only waits
+ * for the daemon when identifiers are used faster than a lease can be answered. Leased identifiers were generated
+ * before they are handed out, so the timestamp of a Type 6 or Type 7 identifier may be a little earlier than the
+ * call that returned it. All other operations are forwarded to the decorated service, which must use the same
+ * identifier type as the server.
+ */
+public final class IdentifierLeaseClient extends ForwardingIdentifierService implements Closeable {
+
+    /**
+     * The connection to the server.
+     */
+    private final SocketChannel channel;
+
+    /**
+     * The number of identifiers requested in each lease.
+     */
+    private final int leaseSize;
+
+    /**
+     * Runs the background lease requests.
+     */
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("identifier-lease-refill").factory());
+
+    /**
+     * Guards the current block and the pending lease.
+     */
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * The block identifiers are currently generated from.
+     */
+    private long[] current;
+
+    /**
+     * The index in {@link #current} of the next identifier.
+     */
+    private int position;
+
+    /**
+     * The lease that will replace {@link #current} when it is exhausted.
+     */
+    private CompletableFuture<long[]> next;
+
+    /**
+     * Initialise the client, lease its first block and request the next.
+     *
+     * @param identifierService The decorated service.
+     * @param channel           The connection to the server.
+     * @param leaseSize         The number of identifiers requested in each lease.
+     * @throws IOException If the first block could not be leased.
+     */
+    private IdentifierLeaseClient(final IdentifierService identifierService,
+                                  final SocketChannel channel,
+                                  final int leaseSize) throws IOException {
+        super(identifierService);
+        this.channel = channel;
+        this.leaseSize = leaseSize;
+        this.current = lease();
+        this.next = refill();
+    }
+
+    /**
+     * Connect to a server and lease the first block.
+     *
+     * @param identifierService The decorated service used to create identifiers from the leased bits and for all
+     *                          operations other than generating.
+     * @param socket            The path of the server's socket file.
+     * @param leaseSize         The number of identifiers requested in each lease.
+     * @return The client.
+     * @throws IllegalArgumentException If the lease size is not between 1 and
+     *                                  {@link IdentifierLeaseServer#MAX_LEASE_SIZE}.
+     * @throws IOException              If the server could not be reached.
+     */
+    public static IdentifierLeaseClient connect(final IdentifierService identifierService,
+                                                final Path socket,
+                                                final int leaseSize) throws IOException {
+        if (leaseSize < 1 || leaseSize > IdentifierLeaseServer.MAX_LEASE_SIZE) {
+            throw new IllegalArgumentException("lease size must be between 1 and " + IdentifierLeaseServer.MAX_LEASE_SIZE);
+        }
+        final var channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            return new IdentifierLeaseClient(identifierService, channel, leaseSize);
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Generate an identifier from the current leased block, switching to the next block when it is exhausted.
+     *
+     * @return The generated identifier.
+     * @throws UncheckedIOException If the next block could not be leased.
+     */
+    @Override
+    public Identifier generate() {
+        final long msb;
+        final long lsb;
+        lock.lock();
+        try {
+            if (position == current.length) {
+                try {
+                    current = await(next);
+                    position = 0;
+                } finally {
+                    next = refill();
+                }
+            }
+            msb = current[position++];
+            lsb = current[position++];
+        } finally {
+            lock.unlock();
+        }
+        return delegate().fromBits(msb, lsb);
+    }
+
+    /**
+     * Close the connection to the server. Identifiers remaining in the leased blocks are discarded.
+     *
+     * @throws IOException If the connection could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        executor.close();
+    }
+
+    /**
+     * Request the next block on a background thread.
+     *
+     * @return The pending block.
+     */
+    private CompletableFuture<long[]> refill() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return lease();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Wait for a pending block.
+     *
+     * @param pending The pending block.
+     * @return The block.
+     * @throws UncheckedIOException If the block could not be leased.
+     */
+    private static long[] await(final CompletableFuture<long[]> pending) {
+        try {
+            return pending.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Lease a block of identifiers from the server.
+     *
+     * @return The packed identifiers.
+     * @throws IOException If the lease failed.
+     */
+    private long[] lease() throws IOException {
+        final var request = ByteBuffer.allocate(4).putInt(0, leaseSize);
+        while (request.hasRemaining()) {
+            channel.write(request);
+        }
+        final var header = ByteBuffer.allocate(4);
+        IdentifierLeaseServer.readFully(channel, header);
+        final var count = header.getInt(0);
+        if (count != leaseSize) {
+            throw new IOException("unexpected lease size " + count);
+        }
+        final var body = ByteBuffer.allocate(count * 16);
+        IdentifierLeaseServer.readFully(channel, body);
+        final var block = new long[count * 2];
+        body.flip().asLongBuffer().get(block);
+        return block;
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.lease;
+
+import com.buralotech.oss.identifier.api.IdentifierService;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A small daemon that hands out identifiers to the processes on a host in leased blocks over a Unix domain socket.
+ * A background thread keeps a bounded number of blocks generated ahead of demand, so a lease is answered by copying
+ * identifiers that already exist. Leases are served one at a time in the order the identifiers were generated, so
+ * when the decorated service generates monotonic identifiers, such as Type 7, every lease is strictly greater than
+ * the leases before it whichever client received them. If the decorated service throws, for example because its
+ * clock moved backwards and it fails fast, the blocks generated before then are still leased and every lease after
+ * them closes its connection, so clients fail instead of waiting for blocks that will never come. The wire protocol
+ * is described in the {@code com.buralotech.oss.identifier.lease} package.
+ */
+public final class IdentifierLeaseServer implements Closeable {
+
+    /**
+     * The largest number of identifiers that can be requested in one lease.
+     */
+    public static final int MAX_LEASE_SIZE = 65536;
+
+    /**
+     * How long a lease waits for a block before checking whether the server has been closed.
+     */
+    private static final long POLL_MILLIS = 100L;
+
+    /**
+     * Generates the identifiers.
+     */
+    private final IdentifierService identifierService;
+
+    /**
+     * The path of the socket file.
+     */
+    private final Path socket;
+
+    /**
+     * Accepts connections from clients.
+     */
+    private final ServerSocketChannel server;
+
+    /**
+     * The number of identifiers in each pre-generated block.
+     */
+    private final int blockSize;
+
+    /**
+     * The pre-generated blocks of packed identifiers, oldest first.
+     */
+    private final BlockingQueue<long[]> ready;
+
+    /**
+     * Serialises leases so that they are served in generation order.
+     */
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * The open client connections.
+     */
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Fills {@link #ready}.
+     */
+    private final Thread producer;
+
+    /**
+     * Accepts client connections.
+     */
+    private final Thread acceptor;
+
+    /**
+     * Why the producer stopped generating or {@code null} while it is still running.
+     */
+    private volatile @Nullable RuntimeException failure;
+
+    /**
+     * The block leases are currently served from.
+     */
+    private long @Nullable [] current;
+
+    /**
+     * The index in {@link #current} of the next identifier to lease.
+     */
+    private int position;
+
+    /**
+     * Initialise the server and start its threads.
+     *
+     * @param identifierService Generates the identifiers.
+     * @param server            Bound to the socket.
+     * @param socket            The path of the socket file.
+     * @param blockSize         The number of identifiers in each pre-generated block.
+     * @param blocksAhead       The number of blocks to generate ahead of demand.
+     */
+    private IdentifierLeaseServer(final IdentifierService identifierService,
+                                  final ServerSocketChannel server,
+                                  final Path socket,
+                                  final int blockSize,
+                                  final int blocksAhead) {
+        this.identifierService = identifierService;
+        this.server = server;
+        this.socket = socket;
+        this.blockSize = blockSize;
+        this.ready = new ArrayBlockingQueue<>(blocksAhead);
+        this.producer = Thread.ofVirtual().name("identifier-lease-producer").start(this::produce);
+        this.acceptor = Thread.ofVirtual().name("identifier-lease-acceptor").start(this::accept);
+    }
+
+    /**
+     * Start a server listening on a socket file, which must not already exist.
+     *
+     * @param identifierService Generates the identifiers.
+     * @param socket            The path of the socket file.
+     * @param blockSize         The number of identifiers in each pre-generated block.
+     * @param blocksAhead       The number of blocks to generate ahead of demand.
+     * @return The running server.
+     * @throws IllegalArgumentException If the block size or number of blocks is not positive or the block size is
+     *                                  greater than {@link #MAX_LEASE_SIZE}.
+     * @throws IOException              If the socket could not be bound.
+     */
+    public static IdentifierLeaseServer start(final IdentifierService identifierService,
+                                              final Path socket,
+                                              final int blockSize,
+                                              final int blocksAhead) throws IOException {
+        if (blockSize < 1 || blockSize > MAX_LEASE_SIZE) {
+            throw new IllegalArgumentException("block size must be between 1 and " + MAX_LEASE_SIZE);
+        }
+        if (blocksAhead < 1) {
+            throw new IllegalArgumentException("blocks ahead must be positive");
+        }
+        final var server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            server.bind(UnixDomainSocketAddress.of(socket));
+        } catch (final IOException e) {
+            server.close();
+            throw e;
+        }
+        return new IdentifierLeaseServer(identifierService, server, socket, blockSize, blocksAhead);
+    }
+
+    /**
+     * Get the path of the socket file.
+     *
+     * @return The path.
+     */
+    public Path socket() {
+        return socket;
+    }
+
+    /**
+     * Stop accepting connections, close the open ones and remove the socket file.
+     *
+     * @throws IOException If the socket file could not be removed.
+     */
+    @Override
+    public void close() throws IOException {
+        server.close();
+        producer.interrupt();
+        for (final var connection : connections) {
+            connection.close();
+        }
+        try {
+            acceptor.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Files.deleteIfExists(socket);
+    }
+
+    /**
+     * Generate blocks of packed identifiers until interrupted or the decorated service fails, waiting while
+     * {@link #ready} is full.
+     */
+    private void produce() {
+        try {
+            while (true) {
+                final var block = new long[blockSize * 2];
+                for (var i = 0; i < block.length; i += 2) {
+                    final var identifier = identifierService.generate();
+                    block[i] = identifier.mostSignificantBits();
+                    block[i + 1] = identifier.leastSignificantBits();
+                }
+                ready.put(block);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final RuntimeException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Accept connections, serving each on its own virtual thread, until the server socket is closed.
+     */
+    private void accept() {
+        try {
+            while (true) {
+                final var connection = server.accept();
+                connections.add(connection);
+                Thread.ofVirtual().name("identifier-lease-connection").start(() -> serve(connection));
+            }
+        } catch (final IOException e) {
+            // The server socket was closed
+        }
+    }
+
+    /**
+     * Answer lease requests on a connection until it is closed or a request is not valid.
+     *
+     * @param connection The connection.
+     */
+    private void serve(final SocketChannel connection) {
+        try (connection) {
+            final var request = ByteBuffer.allocate(4);
+            while (true) {
+                request.clear();
+                readFully(connection, request);
+                final var count = request.getInt(0);
+                if (count < 1 || count > MAX_LEASE_SIZE) {
+                    return;
+                }
+                final var response = ByteBuffer.allocate(4 + count * 16).putInt(count);
+                lease(count, response);
+                response.flip();
+                while (response.hasRemaining()) {
+                    connection.write(response);
+                }
+            }
+        } catch (final IOException | InterruptedException e) {
+            // The client went away or the server is closing
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    /**
+     * Copy the next identifiers in generation order into a buffer.
+     *
+     * @param count  The number of identifiers.
+     * @param buffer Receives the identifiers.
+     * @throws IOException          If the server was closed or generation failed while waiting for a block.
+     * @throws InterruptedException If interrupted while waiting for a block to be generated.
+     */
+    private void lease(final int count,
+                       final ByteBuffer buffer) throws IOException, InterruptedException {
+        lock.lock();
+        try {
+            var remaining = count * 2;
+            while (remaining > 0) {
+                var block = current;
+                if (block == null || position == block.length) {
+                    while ((block = ready.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                        if (!server.isOpen()) {
+                            throw new AsynchronousCloseException();
+                        }
+                        final var cause = failure;
+                        if (cause != null) {
+                            throw new IOException("identifier generation failed", cause);
+                        }
+                    }
+                    current = block;
+                    position = 0;
+                }
+                final var end = Math.min(block.length, position + remaining);
+                remaining -= end - position;
+                while (position < end) {
+                    buffer.putLong(block[position++]);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fill a buffer from a channel.
+     *
+     * @param channel The channel.
+     * @param buffer  The buffer.
+     * @throws IOException If the channel could not be read or reached its end first.
+     */
+    static void readFully(final SocketChannel channel,
+                          final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("connection closed");
+            }
+        }
+    }
+}
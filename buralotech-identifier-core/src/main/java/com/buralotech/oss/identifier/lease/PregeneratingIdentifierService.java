@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.lease;
+
+import com.buralotech.oss.identifier.api.ForwardingIdentifierService;
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An identifier service that generates identifiers ahead of demand on a background virtual thread and keeps them in
+ * a bounded ring. {@link #generate()} takes the oldest identifier from the ring with a single compare-and-set and
+ * only generates inline, using the decorated service, when the ring is empty. The background thread fills the ring
+ * to capacity and then sleeps until it has drained to the low watermark.
+ * <p>
+ * Identifiers taken from the ring were generated before they were requested, so the timestamp of a Type 6 or Type 7
+ * identifier may be a little earlier than the call that returned it, and an identifier generated inline when the
+ * ring is empty is greater than those still waiting in the ring. All other operations are forwarded to the decorated
+ * service.
+ */
+public final class PregeneratingIdentifierService extends ForwardingIdentifierService implements AutoCloseable {
+
+    /**
+     * The largest supported ring capacity.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * How long the background thread sleeps before checking the ring again if it was not woken.
+     */
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    /**
+     * The ring of generated identifiers. A slot is written by the background thread only after every consumer has
+     * moved past it.
+     */
+    private final Identifier[] ring;
+
+    /**
+     * Maps a sequence number to its slot in {@link #ring}.
+     */
+    private final int mask;
+
+    /**
+     * The number of queued identifiers at or below which the background thread is woken.
+     */
+    private final int lowWatermark;
+
+    /**
+     * The sequence number of the next identifier to take, advanced by consumers with compare-and-set.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The sequence number of the next identifier to publish, advanced only by the background thread.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Counts hits, misses and refills.
+     */
+    private final PregenerationStats stats;
+
+    /**
+     * Fills the ring.
+     */
+    private final Thread producer;
+
+    /**
+     * Set when the service is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Initialise the service and start the background thread.
+     *
+     * @param identifierService The decorated service.
+     * @param capacity          The capacity of the ring, a power of two.
+     * @param lowWatermark      The number of queued identifiers at or below which the ring is refilled.
+     */
+    private PregeneratingIdentifierService(final IdentifierService identifierService,
+                                           final int capacity,
+                                           final int lowWatermark) {
+        super(identifierService);
+        this.ring = new Identifier[capacity];
+        this.mask = capacity - 1;
+        this.lowWatermark = lowWatermark;
+        this.stats = new PregenerationStats(capacity, lowWatermark, this::available);
+        this.producer = Thread.ofVirtual().name("identifier-pregeneration").start(this::produce);
+    }
+
+    /**
+     * Start generating identifiers ahead of demand.
+     *
+     * @param identifierService The decorated service.
+     * @param capacity          The number of identifiers to keep ready, rounded up to a power of two.
+     * @param lowWatermark      The number of queued identifiers at or below which the ring is refilled.
+     * @return The running service.
+     * @throws IllegalArgumentException If the capacity is not between 1 and {@link #MAX_CAPACITY} or the low
+     *                                  watermark is negative or not less than the capacity.
+     */
+    public static PregeneratingIdentifierService start(final IdentifierService identifierService,
+                                                       final int capacity,
+                                                       final int lowWatermark) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        if (lowWatermark < 0 || lowWatermark >= capacity) {
+            throw new IllegalArgumentException("low watermark must be at least zero and less than the capacity");
+        }
+        final var size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        return new PregeneratingIdentifierService(identifierService, size, lowWatermark);
+    }
+
+    /**
+     * Take the oldest identifier from the ring or generate one inline if the ring is empty.
+     *
+     * @return The generated identifier.
+     */
+    @Override
+    public Identifier generate() {
+        while (true) {
+            final var h = head.get();
+            final var t = tail.get();
+            if (h == t) {
+                stats.miss();
+                LockSupport.unpark(producer);
+                return delegate().generate();
+            }
+            final var identifier = ring[(int) h & mask];
+            if (head.compareAndSet(h, h + 1L)) {
+                final var available = t - h - 1L;
+                stats.hit(available);
+                if (available == lowWatermark) {
+                    LockSupport.unpark(producer);
+                }
+                return identifier;
+            }
+        }
+    }
+
+    /**
+     * Get the statistics of the ring for metrics.
+     *
+     * @return The statistics.
+     */
+    public PregenerationStats stats() {
+        return stats;
+    }
+
+    /**
+     * Stop the background thread. Identifiers remaining in the ring are still handed out before falling back to
+     * inline generation.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(producer);
+        try {
+            producer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get the number of identifiers waiting in the ring.
+     *
+     * @return The number of identifiers.
+     */
+    private long available() {
+        return Math.max(0L, tail.get() - head.get());
+    }
+
+    /**
+     * Fill the ring to capacity and then wait until it drains to the low watermark, until closed.
+     */
+    private void produce() {
+        var t = tail.get();
+        while (!closed) {
+            if (t - head.get() < ring.length) {
+                stats.refillStarted();
+            }
+            while (!closed && t - head.get() < ring.length) {
+                ring[(int) t & mask] = delegate().generate();
+                stats.generated();
+                tail.set(++t);
+            }
+            while (!closed && t - head.get() > lowWatermark) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+    }
+}
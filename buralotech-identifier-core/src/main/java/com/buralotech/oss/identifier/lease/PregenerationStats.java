@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.lease;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts how well a {@link PregeneratingIdentifierService} keeps up with demand so that it can be exported as
+ * metrics.
+ */
+public final class PregenerationStats {
+
+    /**
+     * The number of identifiers taken from the ring.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of identifiers generated inline because the ring was empty.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The number of identifiers generated by the background thread.
+     */
+    private final LongAdder produced = new LongAdder();
+
+    /**
+     * The number of times the background thread started filling the ring.
+     */
+    private final LongAdder refills = new LongAdder();
+
+    /**
+     * The fewest identifiers left in the ring after a hit.
+     */
+    private final LongAccumulator minAvailable = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+    /**
+     * The capacity of the ring.
+     */
+    private final int capacity;
+
+    /**
+     * The number of queued identifiers at or below which the ring is refilled.
+     */
+    private final int lowWatermark;
+
+    /**
+     * Reports the number of identifiers in the ring.
+     */
+    private final LongSupplier available;
+
+    /**
+     * When the statistics started being collected as reported by {@link System#nanoTime()}.
+     */
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Construct statistics for a ring.
+     *
+     * @param capacity     The capacity of the ring.
+     * @param lowWatermark The number of queued identifiers at or below which the ring is refilled.
+     * @param available    Reports the number of identifiers in the ring.
+     */
+    PregenerationStats(final int capacity,
+                       final int lowWatermark,
+                       final LongSupplier available) {
+        this.capacity = capacity;
+        this.lowWatermark = lowWatermark;
+        this.available = available;
+    }
+
+    /**
+     * Get the number of identifiers taken from the ring.
+     *
+     * @return The number of identifiers.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of identifiers generated inline because the ring was empty.
+     *
+     * @return The number of identifiers.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the fraction of identifiers that were taken from the ring.
+     *
+     * @return The ratio between {@code 0.0} and {@code 1.0}, or {@code 0.0} if no identifiers have been generated.
+     */
+    public double hitRatio() {
+        final var hits = this.hits.sum();
+        final var total = hits + misses.sum();
+        return total == 0L ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Get the number of identifiers generated by the background thread.
+     *
+     * @return The number of identifiers.
+     */
+    public long produced() {
+        return produced.sum();
+    }
+
+    /**
+     * Get the number of times the background thread started filling the ring.
+     *
+     * @return The number of refills.
+     */
+    public long refills() {
+        return refills.sum();
+    }
+
+    /**
+     * Get the average number of identifiers generated by the background thread per second since it started.
+     *
+     * @return The refill rate.
+     */
+    public double refillRate() {
+        final var elapsed = System.nanoTime() - startNanos;
+        return elapsed <= 0L ? 0.0 : produced.sum() * 1e9 / elapsed;
+    }
+
+    /**
+     * Get the number of identifiers currently waiting in the ring.
+     *
+     * @return The number of identifiers.
+     */
+    public long available() {
+        return available.getAsLong();
+    }
+
+    /**
+     * Get the fewest identifiers left in the ring after an identifier was taken from it, which shows how close
+     * demand has come to emptying the ring.
+     *
+     * @return The number of identifiers, or the capacity if no identifier has been taken from the ring.
+     */
+    public long minAvailable() {
+        return Math.min(minAvailable.get(), capacity);
+    }
+
+    /**
+     * Get the capacity of the ring.
+     *
+     * @return The capacity.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the number of queued identifiers at or below which the ring is refilled.
+     *
+     * @return The low watermark.
+     */
+    public int lowWatermark() {
+        return lowWatermark;
+    }
+
+    /**
+     * Record an identifier taken from the ring.
+     *
+     * @param remaining The number of identifiers left in the ring.
+     */
+    void hit(final long remaining) {
+        hits.increment();
+        minAvailable.accumulate(remaining);
+    }
+
+    /**
+     * Record an identifier generated inline.
+     */
+    void miss() {
+        misses.increment();
+    }
+
+    /**
+     * Record that the background thread started filling the ring.
+     */
+    void refillStarted() {
+        refills.increment();
+    }
+
+    /**
+     * Record an identifier generated by the background thread, as it is generated so that the refill rate keeps
+     * up with a ring that demand never lets fill.
+     */
+    void generated() {
+        produced.increment();
+    }
+}
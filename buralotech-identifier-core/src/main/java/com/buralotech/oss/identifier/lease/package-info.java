@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Generating identifiers ahead of demand, either in a local daemon that leases them in blocks to the processes on a
+ * host or in a background thread of the process that uses them.
+ * <h2>Lease protocol</h2>
+ * {@link com.buralotech.oss.identifier.lease.IdentifierLeaseServer} listens on a Unix domain socket and
+ * {@link com.buralotech.oss.identifier.lease.IdentifierLeaseClient} keeps a connection open to it. All multi-byte
+ * values are big-endian.
+ * <table>
+ *     <caption>Messages</caption>
+ *     <tr><th>Message</th><th>Size</th><th>Content</th></tr>
+ *     <tr><td>Request</td><td>4</td><td>The number of identifiers wanted, from {@code 1} to
+ *     {@value com.buralotech.oss.identifier.lease.IdentifierLeaseServer#MAX_LEASE_SIZE}</td></tr>
+ *     <tr><td>Response</td><td>4 + 16 per identifier</td><td>The number of identifiers followed by their 16-byte
+ *     binary representations in strictly ascending unsigned order</td></tr>
+ * </table>
+ * A connection may carry any number of requests, each answered before the next is read. The server closes the
+ * connection when a request is not valid or when it can no longer generate identifiers.
+ */
+@NullMarked
+package com.buralotech.oss.identifier.lease;
+
+import org.jspecify.annotations.NullMarked;
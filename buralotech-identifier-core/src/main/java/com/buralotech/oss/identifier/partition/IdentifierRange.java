@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.partition;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An inclusive range of identifiers, typically all the time-based identifiers generated within a time window, that
+ * can be split into contiguous sub-ranges so that workers can scan {@code WHERE id BETWEEN lo AND hi} in parallel.
+ * Splitting works at millisecond granularity using the timestamps embedded in the bounds.
+ */
+public final class IdentifierRange {
+
+    /**
+     * Used to extract timestamps and create bounds.
+     */
+    private final IdentifierService identifierService;
+
+    /**
+     * The inclusive lower bound.
+     */
+    private final Identifier lowerBound;
+
+    /**
+     * The inclusive upper bound.
+     */
+    private final Identifier upperBound;
+
+    /**
+     * Construct a range.
+     *
+     * @param identifierService Used to extract timestamps and create bounds.
+     * @param lowerBound        The inclusive lower bound.
+     * @param upperBound        The inclusive upper bound. The range is empty if this is less than the lower bound.
+     */
+    public IdentifierRange(final IdentifierService identifierService,
+                           final Identifier lowerBound,
+                           final Identifier upperBound) {
+        this.identifierService = identifierService;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Create the range of time-based identifiers generated within a time window.
+     *
+     * @param identifierService Used to extract timestamps and create bounds.
+     * @param start             The inclusive start of the time window.
+     * @param end               The inclusive end of the time window.
+     * @return The range.
+     * @throws UnsupportedOperationException If the identifiers are not time-based.
+     * @throws IllegalArgumentException      If the temporal type is not supported.
+     */
+    public static IdentifierRange of(final IdentifierService identifierService,
+                                     final Temporal start,
+                                     final Temporal end) {
+        return new IdentifierRange(identifierService, identifierService.asLowerBound(start), identifierService.asUpperBound(end));
+    }
+
+    /**
+     * Get the inclusive lower bound.
+     *
+     * @return The lower bound.
+     */
+    public Identifier lowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Get the inclusive upper bound.
+     *
+     * @return The upper bound.
+     */
+    public Identifier upperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Determine if the range is empty.
+     *
+     * @return {@code true} if the upper bound is less than the lower bound. Otherwise, {@code false}.
+     */
+    public boolean isEmpty() {
+        return lowerBound.compareTo(upperBound) > 0;
+    }
+
+    /**
+     * Determine if an identifier is in the range.
+     *
+     * @param identifier The identifier.
+     * @return {@code true} if the identifier is between the bounds inclusive. Otherwise, {@code false}.
+     */
+    public boolean contains(final Identifier identifier) {
+        return lowerBound.compareTo(identifier) <= 0 && identifier.compareTo(upperBound) <= 0;
+    }
+
+    /**
+     * Determine if this range has any identifiers in common with another.
+     *
+     * @param other The other range.
+     * @return {@code true} if the ranges overlap. Otherwise, {@code false}.
+     */
+    public boolean intersects(final IdentifierRange other) {
+        return !isEmpty()
+                && !other.isEmpty()
+                && lowerBound.compareTo(other.upperBound) <= 0
+                && other.lowerBound.compareTo(upperBound) <= 0;
+    }
+
+    /**
+     * Split the range into contiguous sub-ranges that each cover an equal share of the time window.
+     *
+     * @param n The number of sub-ranges.
+     * @return The sub-ranges in ascending order. There are fewer than {@code n} if the time window has fewer
+     * milliseconds than that and none if the range is empty.
+     * @throws IllegalArgumentException      If {@code n} is less than one.
+     * @throws UnsupportedOperationException If the identifiers are not time-based.
+     */
+    public List<IdentifierRange> split(final int n) {
+        return split(n, new long[]{1L});
+    }
+
+    /**
+     * Split the range into contiguous sub-ranges that each hold about the same number of identifiers according to a
+     * density histogram. The histogram divides the time window into equal slices and gives the relative number of
+     * identifiers in each. Identifiers are assumed to be spread evenly within a slice.
+     *
+     * @param n       The number of sub-ranges.
+     * @param density The relative number of identifiers in each slice of the time window.
+     * @return The sub-ranges in ascending order. There are fewer than {@code n} if the time window has fewer
+     * milliseconds than that and none if the range is empty.
+     * @throws IllegalArgumentException      If {@code n} is less than one, the histogram is empty or has a negative
+     *                                       count.
+     * @throws UnsupportedOperationException If the identifiers are not time-based.
+     */
+    public List<IdentifierRange> split(final int n,
+                                       final long[] density) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be at least one");
+        }
+        if (density.length == 0) {
+            throw new IllegalArgumentException("density must have at least one slice");
+        }
+        var total = 0.0;
+        for (final var count : density) {
+            if (count < 0L) {
+                throw new IllegalArgumentException("density must not be negative");
+            }
+            total += count;
+        }
+        final var ranges = new ArrayList<IdentifierRange>(n);
+        if (isEmpty()) {
+            return ranges;
+        }
+        final var weights = total == 0.0 ? new long[]{1L} : density;
+        final var weightTotal = total == 0.0 ? 1.0 : total;
+        final var start = identifierService.toEpochMilli(lowerBound);
+        final var span = (double) (identifierService.toEpochMilli(upperBound) + 1L - start);
+        final var sliceSpan = span / weights.length;
+        var lower = lowerBound;
+        var slice = 0;
+        var cumulative = 0.0;
+        var previous = start;
+        for (var i = 1; i < n; i++) {
+            final var target = weightTotal * i / n;
+            while (slice < weights.length - 1 && cumulative + weights[slice] < target) {
+                cumulative += weights[slice++];
+            }
+            final var fraction = weights[slice] == 0L ? 0.0 : (target - cumulative) / weights[slice];
+            final var boundary = start + (long) Math.floor((slice + Math.min(1.0, fraction)) * sliceSpan);
+            if (boundary > previous && boundary < start + (long) span) {
+                final var next = identifierService.asLowerBound(Instant.ofEpochMilli(boundary));
+                ranges.add(new IdentifierRange(identifierService, lower, identifierService.predecessor(next)));
+                lower = next;
+                previous = boundary;
+            }
+        }
+        ranges.add(new IdentifierRange(identifierService, lower, upperBound));
+        return ranges;
+    }
+
+    /**
+     * Determine if two ranges have the same bounds.
+     *
+     * @param other The other range.
+     * @return {@code true} if the two ranges have the same bounds. Otherwise, {@code false}.
+     */
+    @Override
+    public boolean equals(final @Nullable Object other) {
+        return other instanceof IdentifierRange range
+                && lowerBound.equals(range.lowerBound)
+                && upperBound.equals(range.upperBound);
+    }
+
+    /**
+     * Calculate a hash code for a range.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBound, upperBound);
+    }
+
+    /**
+     * Get a string representation.
+     *
+     * @return The string representation.
+     */
+    @Override
+    public String toString() {
+        return "[" + lowerBound + ", " + upperBound + "]";
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.partition;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.uuid.UUIDBits;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Routes identifiers to one of a number of partitions or shards. Routing uses the hash from
+ * {@link UUIDBits#hash(long, long)} which, for Type 4 and Type 7 identifiers, is taken from the random bits so the
+ * timestamp prefix does not skew the distribution. Routing never allocates and works directly on binary
+ * representations held in byte arrays or buffers.
+ */
+@FunctionalInterface
+public interface IdentifierRouter {
+
+    /**
+     * The number of points placed on the ring for each unit of weight by {@link #weighted(int...)}.
+     */
+    int POINTS_PER_WEIGHT = 128;
+
+    /**
+     * Route an identifier given as the most and least significant 64 bits of its binary representation.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The partition or shard, starting from {@code 0}.
+     */
+    int route(long msb, long lsb);
+
+    /**
+     * Route an identifier.
+     *
+     * @param identifier The identifier.
+     * @return The partition or shard, starting from {@code 0}.
+     */
+    default int route(final Identifier identifier) {
+        return route(identifier.mostSignificantBits(), identifier.leastSignificantBits());
+    }
+
+    /**
+     * Route an identifier given as its 16-byte binary representation.
+     *
+     * @param binary The binary representation.
+     * @param offset The position of the binary representation in the byte array.
+     * @return The partition or shard, starting from {@code 0}.
+     */
+    default int route(final byte[] binary,
+                      final int offset) {
+        return route(UUIDBits.mostSignificantBits(binary, offset), UUIDBits.leastSignificantBits(binary, offset));
+    }
+
+    /**
+     * Route an identifier given as the 16-byte binary representation at the current position of a buffer. The
+     * position of the buffer is not changed.
+     *
+     * @param buffer The buffer.
+     * @return The partition or shard, starting from {@code 0}.
+     */
+    default int route(final ByteBuffer buffer) {
+        final var position = buffer.position();
+        final var msb = buffer.getLong(position);
+        final var lsb = buffer.getLong(position + 8);
+        return buffer.order() == ByteOrder.BIG_ENDIAN
+                ? route(msb, lsb)
+                : route(Long.reverseBytes(msb), Long.reverseBytes(lsb));
+    }
+
+    /**
+     * Create a router that uses jump consistent hashing. When the number of partitions grows from {@code n} to
+     * {@code n + 1} only about {@code 1 / (n + 1)} of the identifiers move, and they all move to the new partition.
+     *
+     * @param partitions The number of partitions.
+     * @return The router.
+     * @throws IllegalArgumentException If the number of partitions is less than one.
+     */
+    static IdentifierRouter jump(final int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be at least one");
+        }
+        return (msb, lsb) -> jump(UUIDBits.hash(msb, lsb), partitions);
+    }
+
+    /**
+     * Create a router that places {@link #POINTS_PER_WEIGHT} points per unit of weight for each shard on a hash ring
+     * and routes each identifier to the shard owning the first point at or after its hash. Adding, removing or
+     * re-weighting a shard only moves identifiers to or from that shard.
+     *
+     * @param weights The weight of each shard. A shard with a weight of zero receives no identifiers.
+     * @return The router.
+     * @throws IllegalArgumentException If a weight is negative, every weight is zero or the ring would be too large.
+     */
+    static IdentifierRouter weighted(final int... weights) {
+        var total = 0L;
+        for (final var weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("weights must not be negative");
+            }
+            total += (long) weight * POINTS_PER_WEIGHT;
+        }
+        if (total == 0L || total > 1 << 24) {
+            throw new IllegalArgumentException("total weight must be between 1 and " + ((1 << 24) / POINTS_PER_WEIGHT));
+        }
+        final var points = new long[(int) total];
+        final var owners = new int[(int) total];
+        var count = 0;
+        for (var shard = 0; shard < weights.length; shard++) {
+            for (var point = 0; point < weights[shard] * POINTS_PER_WEIGHT; point++) {
+                // Flip the sign bit so that a signed sort orders the points as unsigned values and keep the index of
+                // the owner in the low 24 bits, which only perturbs the position negligibly.
+                points[count] = ((UUIDBits.mix(((long) shard << 32) | point) ^ Long.MIN_VALUE) & ~0xFFFFFFL) | count;
+                owners[count] = shard;
+                count++;
+            }
+        }
+        Arrays.sort(points);
+        return (msb, lsb) -> {
+            final var found = Arrays.binarySearch(points, UUIDBits.hash(msb, lsb) ^ Long.MIN_VALUE);
+            final var index = found >= 0 ? found : -found - 1;
+            return owners[(int) (points[index == points.length ? 0 : index] & 0xFFFFFFL)];
+        };
+    }
+
+    /**
+     * Jump consistent hash as described by Lamping and Veach.
+     *
+     * @param key     The key.
+     * @param buckets The number of buckets.
+     * @return The bucket, between {@code 0} and {@code buckets - 1}.
+     */
+    private static int jump(final long key,
+                            final int buckets) {
+        var hash = key;
+        var bucket = -1L;
+        var next = 0L;
+        while (next < buckets) {
+            bucket = next;
+            hash = hash * 2862933555777941757L + 1L;
+            next = (long) ((bucket + 1L) * ((double) (1L << 31) / (double) ((hash >>> 33) + 1L)));
+        }
+        return (int) bucket;
+    }
+}
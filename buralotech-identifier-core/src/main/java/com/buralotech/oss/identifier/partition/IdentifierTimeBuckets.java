@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.partition;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Assigns time-based (Type 6 and Type 7) identifiers to fixed-width time buckets, such as the hour or day in which they
+ * were generated, using the timestamp embedded in the identifier. Bucket numbers count whole bucket widths since the
+ * Unix epoch, shifted by an optional zone offset, and are computed with integer arithmetic only.
+ */
+public final class IdentifierTimeBuckets {
+
+    /**
+     * Used to extract timestamps and create bounds.
+     */
+    private final IdentifierService identifierService;
+
+    /**
+     * The width of a bucket in milliseconds.
+     */
+    private final long width;
+
+    /**
+     * The zone offset in milliseconds that is added to a timestamp before it is divided into buckets.
+     */
+    private final long offset;
+
+    /**
+     * Construct buckets that are one time unit wide and aligned to UTC.
+     *
+     * @param identifierService Used to extract timestamps and create bounds.
+     * @param unit              The time unit which must have an exact duration, so {@link ChronoUnit#DAYS} is the
+     *                          largest unit allowed.
+     * @throws IllegalArgumentException If the unit does not have an exact duration of at least a millisecond.
+     */
+    public IdentifierTimeBuckets(final IdentifierService identifierService,
+                                 final ChronoUnit unit) {
+        this(identifierService, exactDuration(unit), ZoneOffset.UTC);
+    }
+
+    /**
+     * Construct buckets aligned to UTC.
+     *
+     * @param identifierService Used to extract timestamps and create bounds.
+     * @param width             The width of a bucket which must be a positive whole number of milliseconds.
+     * @throws IllegalArgumentException If the width is invalid.
+     */
+    public IdentifierTimeBuckets(final IdentifierService identifierService,
+                                 final Duration width) {
+        this(identifierService, width, ZoneOffset.UTC);
+    }
+
+    /**
+     * Construct buckets aligned to a zone offset so that, for example, daily buckets start at local midnight.
+     *
+     * @param identifierService Used to extract timestamps and create bounds.
+     * @param width             The width of a bucket which must be a positive whole number of milliseconds.
+     * @param offset            The zone offset.
+     * @throws IllegalArgumentException If the width is invalid.
+     */
+    public IdentifierTimeBuckets(final IdentifierService identifierService,
+                                 final Duration width,
+                                 final ZoneOffset offset) {
+        final var millis = width.toMillis();
+        if (millis <= 0L || width.compareTo(Duration.ofMillis(millis)) != 0) {
+            throw new IllegalArgumentException("width must be a positive whole number of milliseconds");
+        }
+        this.identifierService = identifierService;
+        this.width = millis;
+        this.offset = offset.getTotalSeconds() * 1000L;
+    }
+
+    /**
+     * Get the bucket in which an identifier was generated.
+     *
+     * @param identifier The identifier.
+     * @return The bucket number.
+     */
+    public long bucketOf(final Identifier identifier) {
+        return bucketOfEpochMilli(identifierService.toEpochMilli(identifier));
+    }
+
+    /**
+     * Get the bucket in which an identifier, given as the most and least significant 64 bits of its binary
+     * representation, was generated.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The bucket number.
+     */
+    public long bucketOf(final long msb,
+                         final long lsb) {
+        return bucketOfEpochMilli(identifierService.toEpochMilli(msb, lsb));
+    }
+
+    /**
+     * Get the buckets for a run of identifiers packed into a {@code long[]} as consecutive pairs of their most and
+     * least significant 64 bits.
+     *
+     * @param packed  The packed identifiers.
+     * @param from    The position of the first identifier.
+     * @param to      The position after the last identifier.
+     * @param buckets Receives the bucket number of the identifier at position {@code from + i} at index {@code i}.
+     * @throws IndexOutOfBoundsException If the positions are out of range or the destination is too small.
+     */
+    public void bucketsOf(final long[] packed,
+                          final int from,
+                          final int to,
+                          final long[] buckets) {
+        Objects.checkFromToIndex(from, to, packed.length >> 1);
+        Objects.checkFromIndexSize(0, to - from, buckets.length);
+        for (var i = from; i < to; i++) {
+            buckets[i - from] = bucketOf(packed[i << 1], packed[(i << 1) + 1]);
+        }
+    }
+
+    /**
+     * Get the bucket that contains a point in time given as milliseconds since the Unix epoch.
+     *
+     * @param epochMilli The number of milliseconds since the Unix epoch.
+     * @return The bucket number.
+     */
+    public long bucketOfEpochMilli(final long epochMilli) {
+        return Math.floorDiv(epochMilli + offset, width);
+    }
+
+    /**
+     * Get the start of a bucket as milliseconds since the Unix epoch.
+     *
+     * @param bucket The bucket number.
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    public long startOf(final long bucket) {
+        return bucket * width - offset;
+    }
+
+    /**
+     * Divide a time range into the buckets it overlaps, giving the identifier bounds of each so that every bucket can
+     * be queried separately.
+     *
+     * @param start The inclusive start of the time range.
+     * @param end   The inclusive end of the time range.
+     * @return The buckets in ascending order, which is empty if the end is before the start.
+     * @throws UnsupportedOperationException If the identifiers are not time-based.
+     * @throws IllegalArgumentException      If the temporal type is not supported.
+     */
+    public List<TimeBucket> plan(final Temporal start,
+                                 final Temporal end) {
+        final var lower = identifierService.asLowerBound(start);
+        final var upper = identifierService.asUpperBound(end);
+        final var first = bucketOf(lower);
+        final var last = bucketOf(upper);
+        final var buckets = new ArrayList<TimeBucket>();
+        var bucketLower = lower;
+        for (var bucket = first; bucket <= last && lower.compareTo(upper) <= 0; bucket++) {
+            final var bucketStart = Instant.ofEpochMilli(startOf(bucket));
+            if (bucket == last) {
+                buckets.add(new TimeBucket(bucket, bucketStart, bucketLower, upper));
+            } else {
+                // Ending just before the next bucket's lower bound leaves no identifier between the buckets
+                final var nextLower = identifierService.asLowerBound(Instant.ofEpochMilli(startOf(bucket + 1)));
+                buckets.add(new TimeBucket(bucket, bucketStart, bucketLower, identifierService.predecessor(nextLower)));
+                bucketLower = nextLower;
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Get the exact duration of a time unit.
+     *
+     * @param unit The time unit.
+     * @return The duration.
+     * @throws IllegalArgumentException If the unit does not have an exact duration.
+     */
+    private static Duration exactDuration(final ChronoUnit unit) {
+        if (unit.isDurationEstimated()) {
+            throw new IllegalArgumentException(unit + " does not have an exact duration");
+        }
+        return unit.getDuration();
+    }
+}
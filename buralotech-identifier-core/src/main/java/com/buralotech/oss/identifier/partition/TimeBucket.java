@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.partition;
+
+import com.buralotech.oss.identifier.api.Identifier;
+
+import java.time.Instant;
+
+/**
+ * The identifier bounds of a time bucket, clipped to the time range that was planned.
+ *
+ * @param bucket     The bucket number.
+ * @param start      The start of the bucket.
+ * @param lowerBound The inclusive lower bound of the identifiers in the bucket and the time range.
+ * @param upperBound The inclusive upper bound of the identifiers in the bucket and the time range.
+ */
+public record TimeBucket(long bucket, Instant start, Identifier lowerBound, Identifier upperBound) {
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.sketch;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.uuid.UUIDBits;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+
+/**
+ * A split block Bloom filter for identifiers. Each identifier selects one 256-bit block and sets one bit in each of
+ * the block's eight 32-bit words, so a lookup touches a single cache line. The hash is taken from the identifier's
+ * random bits after a single mixing step as described in {@link com.buralotech.oss.identifier.sketch}.
+ * <p>
+ * The filter is stored in a {@link ByteBuffer} in a format that starts with a 16-byte header (the ASCII characters
+ * {@code BRLIDBLM}, the format version and the number of blocks as big-endian integers) followed by the blocks. The
+ * format is written by {@link #writeTo(OutputStream)} and can be read back from any buffer, including a
+ * memory-mapped file, by {@link #wrap(ByteBuffer)}.
+ * <p>
+ * Instances are not thread-safe while identifiers are being added.
+ */
+public final class IdentifierFilter {
+
+    /**
+     * The ASCII characters {@code BRLIDBLM} as a big-endian long.
+     */
+    private static final long MAGIC = 0x42524C4944424C4DL;
+
+    /**
+     * The current format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the header in bytes.
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * The size of a block in bytes.
+     */
+    private static final int BLOCK_SIZE = 32;
+
+    /**
+     * The odd multipliers that select a bit in each word of a block.
+     */
+    private static final int[] SALTS = {
+            0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d,
+            0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31
+    };
+
+    /**
+     * The header followed by the blocks.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The number of blocks.
+     */
+    private final int blocks;
+
+    /**
+     * Construct a filter backed by a buffer that has already been validated.
+     *
+     * @param buffer The buffer.
+     * @param blocks The number of blocks.
+     */
+    private IdentifierFilter(final ByteBuffer buffer,
+                             final int blocks) {
+        this.buffer = buffer;
+        this.blocks = blocks;
+    }
+
+    /**
+     * Create an empty filter sized for an expected number of identifiers and false positive rate.
+     *
+     * @param expectedInsertions The expected number of identifiers.
+     * @param falsePositiveRate  The acceptable false positive rate which must be between {@code 0} and {@code 1}.
+     * @return The filter.
+     * @throws IllegalArgumentException If the expected number of identifiers is negative, the false positive rate is
+     *                                  out of range or the filter would be too large.
+     */
+    public static IdentifierFilter create(final long expectedInsertions,
+                                          final double falsePositiveRate) {
+        if (expectedInsertions < 0L) {
+            throw new IllegalArgumentException("expected insertions must not be negative");
+        }
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+            throw new IllegalArgumentException("false positive rate must be between 0 and 1");
+        }
+        final var bits = Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2.0) * Math.log(2.0)));
+        final var blocks = Math.max(1L, (long) Math.ceil(bits / (BLOCK_SIZE * 8)));
+        if (blocks > (Integer.MAX_VALUE - HEADER_SIZE) / BLOCK_SIZE) {
+            throw new IllegalArgumentException("filter is too large");
+        }
+        final var buffer = ByteBuffer.allocate(HEADER_SIZE + (int) blocks * BLOCK_SIZE);
+        buffer.putLong(0, MAGIC);
+        buffer.putInt(8, VERSION);
+        buffer.putInt(12, (int) blocks);
+        return new IdentifierFilter(buffer, (int) blocks);
+    }
+
+    /**
+     * Create a filter backed by a buffer holding the serialised form between its position and limit. The buffer is
+     * shared, not copied, so a memory-mapped file can be used without loading it into the heap.
+     *
+     * @param buffer The buffer.
+     * @return The filter.
+     * @throws IllegalArgumentException If the buffer does not contain a valid filter.
+     */
+    public static IdentifierFilter wrap(final ByteBuffer buffer) {
+        final var slice = buffer.slice(buffer.position(), buffer.remaining()).order(ByteOrder.BIG_ENDIAN);
+        if (slice.limit() < HEADER_SIZE
+                || slice.getLong(0) != MAGIC
+                || slice.getInt(8) != VERSION) {
+            throw new IllegalArgumentException("invalid identifier filter");
+        }
+        final var blocks = slice.getInt(12);
+        if (blocks < 1 || (long) blocks * BLOCK_SIZE != slice.limit() - HEADER_SIZE) {
+            throw new IllegalArgumentException("invalid identifier filter");
+        }
+        return new IdentifierFilter(slice, blocks);
+    }
+
+    /**
+     * Add an identifier.
+     *
+     * @param identifier The identifier.
+     * @return {@code true} if the filter changed, which means the identifier had definitely not been added before.
+     * @throws java.nio.ReadOnlyBufferException If the filter is backed by a read-only buffer.
+     */
+    public boolean add(final Identifier identifier) {
+        final var hash = UUIDBits.hash(identifier.mostSignificantBits(), identifier.leastSignificantBits());
+        final var offset = blockOffset(hash);
+        final var key = (int) hash;
+        var changed = false;
+        for (var i = 0; i < SALTS.length; i++) {
+            final var position = offset + (i << 2);
+            final var word = buffer.getInt(position);
+            final var updated = word | mask(key, i);
+            if (updated != word) {
+                buffer.putInt(position, updated);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Determine if an identifier might have been added.
+     *
+     * @param identifier The identifier.
+     * @return {@code false} if the identifier has definitely not been added or {@code true} if it probably has.
+     */
+    public boolean mightContain(final Identifier identifier) {
+        final var hash = UUIDBits.hash(identifier.mostSignificantBits(), identifier.leastSignificantBits());
+        final var offset = blockOffset(hash);
+        final var key = (int) hash;
+        var missing = 0;
+        for (var i = 0; i < SALTS.length; i++) {
+            final var mask = mask(key, i);
+            missing |= ~buffer.getInt(offset + (i << 2)) & mask;
+        }
+        return missing == 0;
+    }
+
+    /**
+     * Get the size of the serialised form.
+     *
+     * @return The size in bytes.
+     */
+    public int sizeInBytes() {
+        return buffer.limit();
+    }
+
+    /**
+     * Write the serialised form that can be read back with {@link #wrap(ByteBuffer)}.
+     *
+     * @param output The stream to write to.
+     * @throws IOException If the filter could not be written.
+     */
+    public void writeTo(final OutputStream output) throws IOException {
+        final var channel = Channels.newChannel(output);
+        final var source = buffer.duplicate().clear();
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    /**
+     * Get the offset of the block selected by the upper half of a hash, using a multiply and shift rather than a
+     * division to map the hash onto the number of blocks.
+     *
+     * @param hash The hash.
+     * @return The offset.
+     */
+    private int blockOffset(final long hash) {
+        return HEADER_SIZE + (int) (((hash >>> 32) * blocks) >>> 32) * BLOCK_SIZE;
+    }
+
+    /**
+     * Get the single bit selected in a word of a block by the lower half of a hash.
+     *
+     * @param key  The lower half of the hash.
+     * @param word The word.
+     * @return The bit mask.
+     */
+    private static int mask(final int key,
+                            final int word) {
+        return 1 << ((key * SALTS[word]) >>> 27);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.sketch;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDBits;
+
+import java.time.Duration;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.Predicate;
+
+/**
+ * Decides whether an identifier is sampled from its random bits alone, as described in
+ * {@link com.buralotech.oss.identifier.sketch}. The decision needs a single mixing step and no allocation or
+ * coordination, so every service makes the same decision for the same identifier. The identifiers sampled at a lower rate are always a
+ * subset of those sampled at a higher rate.
+ */
+@FunctionalInterface
+public interface IdentifierSampler extends Predicate<Identifier> {
+
+    /**
+     * Create a sampler that includes the same fraction of identifiers regardless of when they were generated.
+     *
+     * @param rate The fraction of identifiers to include, between {@code 0} and {@code 1}.
+     * @return The sampler.
+     * @throws IllegalArgumentException If the rate is out of range.
+     */
+    static IdentifierSampler uniform(final double rate) {
+        final var threshold = threshold(rate);
+        return identifier -> UUIDBits.hash(identifier.mostSignificantBits(), identifier.leastSignificantBits()) >>> 11 < threshold;
+    }
+
+    /**
+     * Create a sampler whose rate depends on the time stratum in which a time-based identifier was generated, for
+     * example to sample more heavily during an incident window or to thin out older identifiers.
+     *
+     * @param identifierService Used to extract the timestamps.
+     * @param stratum           The length of each time stratum, which must be a positive whole number of
+     *                          milliseconds.
+     * @param rates             Gives the rate, between {@code 0} and {@code 1}, for the stratum starting at a
+     *                          millisecond since the epoch.
+     * @return The sampler.
+     * @throws IllegalArgumentException If the stratum length is not positive or, when sampling, a rate is out of
+     *                                  range.
+     */
+    static IdentifierSampler stratified(final IdentifierService identifierService,
+                                        final Duration stratum,
+                                        final LongToDoubleFunction rates) {
+        final var millis = stratum.toMillis();
+        if (millis <= 0L || stratum.compareTo(Duration.ofMillis(millis)) != 0) {
+            throw new IllegalArgumentException("stratum must be a positive whole number of milliseconds");
+        }
+        return identifier -> {
+            final var start = Math.floorDiv(identifierService.toEpochMilli(identifier), millis) * millis;
+            return UUIDBits.hash(identifier.mostSignificantBits(), identifier.leastSignificantBits()) >>> 11 < threshold(rates.applyAsDouble(start));
+        };
+    }
+
+    /**
+     * Convert a rate to a threshold for the 53 most significant bits of an identifier hash.
+     *
+     * @param rate The rate.
+     * @return The threshold.
+     * @throws IllegalArgumentException If the rate is out of range.
+     */
+    private static long threshold(final double rate) {
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException("rate must be between 0 and 1");
+        }
+        return (long) (rate * 0x1.0p53);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Probabilistic data structures that take their hash bits from the random bits of identifiers using
+ * {@link com.buralotech.oss.identifier.uuid.UUIDBits#hash(long, long)}, so Type 4 and Type 7 identifiers only need a
+ * single mixing step rather than a hash over all 128 bits.
+ */
+@NullMarked
+package com.buralotech.oss.identifier.sketch;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timestamp;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A JFR event recorded when a time-based generator observes its clock moving backwards.
+ */
+@Name("com.buralotech.identifier.ClockRegression")
+@Label("Clock Regression")
+@Category({"Búraló", "Identifier"})
+@Description("The clock used to generate time-based identifiers moved backwards")
+@StackTrace(false)
+final class ClockRegressionEvent extends Event {
+
+    /**
+     * The UUID version of the generator.
+     */
+    @Label("Version")
+    int version;
+
+    /**
+     * The latest time previously reported by the clock.
+     */
+    @Label("Previous Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long previousMillis;
+
+    /**
+     * The time now reported by the clock.
+     */
+    @Label("Current Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long currentMillis;
+
+    /**
+     * The strategy applied.
+     */
+    @Label("Strategy")
+    @Nullable String strategy;
+
+    /**
+     * What the generator did: {@code borrow}, {@code restart} or {@code fail}.
+     */
+    @Label("Outcome")
+    @Nullable String outcome;
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the clock regressions observed by a time-based generator so that they can be exported as metrics. Each
+ * regression is also recorded as a {@code com.buralotech.identifier.ClockRegression} JFR event.
+ */
+public final class ClockRegressionStats {
+
+    /**
+     * The number of regressions observed.
+     */
+    private final LongAdder regressions = new LongAdder();
+
+    /**
+     * The number of regressions that were borrowed over.
+     */
+    private final LongAdder borrowed = new LongAdder();
+
+    /**
+     * The number of regressions after which the generator restarted from the clock.
+     */
+    private final LongAdder restarted = new LongAdder();
+
+    /**
+     * The number of generation attempts that failed because the clock was behind.
+     */
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * The latest time reported by the clock before the regression that generation is failing on, so that the
+     * regression is counted once however many attempts fail.
+     */
+    private final AtomicLong failingSinceMillis = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * The largest regression in milliseconds.
+     */
+    private final LongAccumulator maxRegressionMillis = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * The UUID version of the generator.
+     */
+    private final int version;
+
+    /**
+     * Construct statistics for a generator.
+     *
+     * @param version The UUID version of the generator.
+     */
+    ClockRegressionStats(final int version) {
+        this.version = version;
+    }
+
+    /**
+     * Get the total number of regressions observed. A regression that generation fails on is counted once however
+     * many attempts fail before the clock recovers.
+     *
+     * @return The number of regressions.
+     */
+    public long regressions() {
+        return regressions.sum();
+    }
+
+    /**
+     * Get the number of regressions that were borrowed over.
+     *
+     * @return The number of regressions.
+     */
+    public long borrowed() {
+        return borrowed.sum();
+    }
+
+    /**
+     * Get the number of regressions after which the generator restarted from the clock.
+     *
+     * @return The number of regressions.
+     */
+    public long restarted() {
+        return restarted.sum();
+    }
+
+    /**
+     * Get the number of generation attempts that failed because the clock was behind, which may be many for each
+     * regression.
+     *
+     * @return The number of failed attempts.
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    /**
+     * Get the largest regression observed.
+     *
+     * @return The regression in milliseconds.
+     */
+    public long maxRegressionMillis() {
+        return maxRegressionMillis.get();
+    }
+
+    /**
+     * Record the time now reported by the clock and, if it is behind the latest time previously reported, apply a
+     * strategy to the regression. A thread can read the clock and be descheduled while another thread records a
+     * later time, so the clock is read again to confirm a regression before acting on it. The latest time is kept
+     * if the strategy fails, so that the clock is still seen as behind until it recovers.
+     *
+     * @param strategy        The strategy.
+     * @param lastClockMillis The latest time previously reported by the clock, updated to the current time.
+     * @param timeSource      The clock, read again to confirm a regression.
+     * @param currentMillis   The time now reported by the clock.
+     * @return {@code true} if the generator should restart from the clock or {@code false} otherwise.
+     * @throws IllegalStateException If the clock moved backwards and the strategy fails on regressions.
+     */
+    boolean observe(final ClockRegressionStrategy strategy,
+                    final AtomicLong lastClockMillis,
+                    final TimeSource timeSource,
+                    final long currentMillis) {
+        var current = currentMillis;
+        while (true) {
+            final var previous = lastClockMillis.get();
+            if (current < previous) {
+                current = timeSource.currentTimeMillis();
+            }
+            if (current >= previous) {
+                if (current == previous || lastClockMillis.compareAndSet(previous, current)) {
+                    return false;
+                }
+            } else {
+                final boolean restarts;
+                try {
+                    restarts = strategy.restarts(previous - current);
+                } catch (final IllegalStateException e) {
+                    failed(strategy, previous, current);
+                    throw e;
+                }
+                if (lastClockMillis.compareAndSet(previous, current)) {
+                    regressions.increment();
+                    maxRegressionMillis.accumulate(previous - current);
+                    (restarts ? restarted : borrowed).increment();
+                    commit(strategy, previous, current, restarts ? "restart" : "borrow");
+                    return restarts;
+                }
+            }
+        }
+    }
+
+    /**
+     * Record a generation attempt that failed because the clock was behind, counting the regression only on the
+     * first attempt that fails on it.
+     *
+     * @param strategy       The strategy.
+     * @param previousMillis The latest time previously reported by the clock.
+     * @param currentMillis  The time now reported by the clock.
+     */
+    private void failed(final ClockRegressionStrategy strategy,
+                        final long previousMillis,
+                        final long currentMillis) {
+        failed.increment();
+        maxRegressionMillis.accumulate(previousMillis - currentMillis);
+        if (failingSinceMillis.getAndSet(previousMillis) != previousMillis) {
+            regressions.increment();
+            commit(strategy, previousMillis, currentMillis, "fail");
+        }
+    }
+
+    /**
+     * Commit a JFR event for a regression if the event is enabled.
+     *
+     * @param strategy       The strategy.
+     * @param previousMillis The latest time previously reported by the clock.
+     * @param currentMillis  The time now reported by the clock.
+     * @param outcome        What the generator did.
+     */
+    private void commit(final ClockRegressionStrategy strategy,
+                        final long previousMillis,
+                        final long currentMillis,
+                        final String outcome) {
+        final var event = new ClockRegressionEvent();
+        if (event.shouldCommit()) {
+            event.version = version;
+            event.previousMillis = previousMillis;
+            event.currentMillis = currentMillis;
+            event.strategy = strategy.toString();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
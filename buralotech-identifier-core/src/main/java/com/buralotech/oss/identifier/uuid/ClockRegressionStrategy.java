@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import java.time.Duration;
+
+/**
+ * Decides how a time-based generator reacts when its time source moves backwards, for example when NTP steps the
+ * clock. None of the strategies block the calling thread.
+ */
+public final class ClockRegressionStrategy {
+
+    /**
+     * The strategy that always borrows.
+     */
+    private static final ClockRegressionStrategy BORROW = new ClockRegressionStrategy("borrow", Long.MAX_VALUE);
+
+    /**
+     * The strategy that always fails.
+     */
+    private static final ClockRegressionStrategy FAIL_FAST = new ClockRegressionStrategy("failFast", -1L);
+
+    /**
+     * Describes the strategy.
+     */
+    private final String name;
+
+    /**
+     * The largest regression in milliseconds that is borrowed over, or {@code -1} to fail on any regression.
+     */
+    private final long maxRegressionMillis;
+
+    /**
+     * Construct a strategy.
+     *
+     * @param name                Describes the strategy.
+     * @param maxRegressionMillis The largest regression in milliseconds that is borrowed over, or {@code -1} to fail
+     *                            on any regression.
+     */
+    private ClockRegressionStrategy(final String name,
+                                    final long maxRegressionMillis) {
+        this.name = name;
+        this.maxRegressionMillis = maxRegressionMillis;
+    }
+
+    /**
+     * Get the strategy that keeps issuing timestamps from the last one used and borrows from the counter that
+     * follows the timestamp until the clock catches up, however far it moved back. Identifiers stay unique and
+     * monotonic but their timestamps may be ahead of the clock for as long as the regression.
+     *
+     * @return The strategy.
+     */
+    public static ClockRegressionStrategy borrow() {
+        return BORROW;
+    }
+
+    /**
+     * Get a strategy that borrows, as {@link #borrow()} does, over regressions up to a bound and restarts from the
+     * clock after larger regressions, giving up monotonicity rather than issuing timestamps that are far ahead of the
+     * clock.
+     *
+     * @param maxRegression The largest regression that is borrowed over.
+     * @return The strategy.
+     * @throws IllegalArgumentException If the bound is negative.
+     */
+    public static ClockRegressionStrategy logical(final Duration maxRegression) {
+        if (maxRegression.isNegative()) {
+            throw new IllegalArgumentException("maximum regression must not be negative");
+        }
+        return new ClockRegressionStrategy("logical(" + maxRegression + ")", maxRegression.toMillis());
+    }
+
+    /**
+     * Get the strategy that throws {@link IllegalStateException} from generation until the clock is no longer behind
+     * the latest time it reported.
+     *
+     * @return The strategy.
+     */
+    public static ClockRegressionStrategy failFast() {
+        return FAIL_FAST;
+    }
+
+    /**
+     * Decide how to react to a regression.
+     *
+     * @param regressionMillis How far the clock moved back in milliseconds.
+     * @return {@code true} if the generator should restart from the clock or {@code false} if it should borrow.
+     * @throws IllegalStateException If the strategy fails on regressions.
+     */
+    boolean restarts(final long regressionMillis) {
+        if (maxRegressionMillis < 0L) {
+            throw new IllegalStateException("clock moved backwards by " + regressionMillis + "ms");
+        }
+        return regressionMillis > maxRegressionMillis;
+    }
+
+    /**
+     * Describe the strategy.
+     *
+     * @return The description.
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+}
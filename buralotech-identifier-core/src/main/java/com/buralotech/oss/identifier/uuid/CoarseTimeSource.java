@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A time source that caches the system clock and refreshes it on a daemon thread at a fixed interval. Reading the
+ * time costs a single volatile read, which matters when generating millions of identifiers per second, at the price
+ * of the time lagging the system clock by up to the resolution.
+ */
+public final class CoarseTimeSource implements TimeSource, AutoCloseable {
+
+    /**
+     * Refreshes the cached time.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The cached time in milliseconds since the Unix epoch.
+     */
+    private volatile long now;
+
+    /**
+     * Construct a time source and start refreshing it.
+     *
+     * @param resolution The interval between reads of the system clock.
+     * @throws IllegalArgumentException If the resolution is not positive.
+     */
+    CoarseTimeSource(final Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("resolution must be positive");
+        }
+        this.now = System.currentTimeMillis();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "identifier-coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final var nanos = resolution.toNanos();
+        executor.scheduleAtFixedRate(() -> now = System.currentTimeMillis(), nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the cached time.
+     *
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    /**
+     * Stop refreshing the cached time.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A small memory-mapped file that records a high-water mark for time-based generators, so that a restarted JVM never
+ * issues identifiers with timestamps behind those it issued before, even if the clock went back while it was down.
+ * The mark is reserved ahead of the issued timestamps in steps, so the file is only written and flushed once per
+ * step rather than once per identifier. After a restart the generators issue identifiers from the mark until the
+ * clock catches up, so a smaller step keeps timestamps closer to the clock at the cost of more frequent flushes.
+ * <table>
+ *     <caption>Layout (32 bytes, big-endian)</caption>
+ *     <tr><th>Offset</th><th>Size</th><th>Field</th></tr>
+ *     <tr><td>0</td><td>8</td><td>Magic number, the ASCII characters {@code BRLIDGEN}</td></tr>
+ *     <tr><td>8</td><td>4</td><td>Format version, currently {@code 1}</td></tr>
+ *     <tr><td>12</td><td>4</td><td>Reserved, must be zero</td></tr>
+ *     <tr><td>16</td><td>8</td><td>High-water mark in milliseconds since the Unix epoch; no identifier has been issued
+ *     with a timestamp at or after it</td></tr>
+ *     <tr><td>24</td><td>8</td><td>Reserved, must be zero</td></tr>
+ * </table>
+ * The file is locked while it is open so that it cannot be used by two processes at once. It may be shared by
+ * generators in the same JVM.
+ */
+public final class GeneratorStateFile implements Closeable {
+
+    /**
+     * Layout used to access big-endian longs in the mapped file.
+     */
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Layout used to access big-endian ints in the mapped file.
+     */
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /**
+     * The ASCII characters {@code BRLIDGEN}.
+     */
+    private static final long MAGIC = 0x42524C494447454EL;
+
+    /**
+     * The format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the file.
+     */
+    private static final long SIZE = 32L;
+
+    /**
+     * The offset of the format version.
+     */
+    private static final long VERSION_OFFSET = 8L;
+
+    /**
+     * The offset of the high-water mark.
+     */
+    private static final long MARK_OFFSET = 16L;
+
+    /**
+     * Owns the mapping of the file.
+     */
+    private final Arena arena;
+
+    /**
+     * The open file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The mapped file.
+     */
+    private final MemorySegment segment;
+
+    /**
+     * How far ahead of the issued timestamps the mark is reserved in milliseconds.
+     */
+    private final long stepMillis;
+
+    /**
+     * The high-water mark read when the file was opened.
+     */
+    private final long recoveredMillis;
+
+    /**
+     * Serialises updates to the mark.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The current high-water mark.
+     */
+    private volatile long reservedMillis;
+
+    /**
+     * Construct a state file.
+     *
+     * @param arena      Owns the mapping of the file.
+     * @param channel    The open file.
+     * @param segment    The mapped file.
+     * @param stepMillis How far ahead of the issued timestamps the mark is reserved in milliseconds.
+     */
+    private GeneratorStateFile(final Arena arena,
+                               final FileChannel channel,
+                               final MemorySegment segment,
+                               final long stepMillis) {
+        this.arena = arena;
+        this.channel = channel;
+        this.segment = segment;
+        this.stepMillis = stepMillis;
+        this.recoveredMillis = segment.get(LONG, MARK_OFFSET);
+        this.reservedMillis = recoveredMillis;
+    }
+
+    /**
+     * Open a state file, creating it if it does not exist.
+     *
+     * @param path The file path.
+     * @param step How far ahead of the issued timestamps to reserve the mark.
+     * @return The state file.
+     * @throws IOException              If the file could not be mapped, is not a valid state file or is in use.
+     * @throws IllegalArgumentException If the step is shorter than a millisecond.
+     */
+    public static GeneratorStateFile open(final Path path,
+                                          final Duration step) throws IOException {
+        if (step.toMillis() < 1L) {
+            throw new IllegalArgumentException("step must be at least one millisecond");
+        }
+        final var arena = Arena.ofShared();
+        final var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            lock(channel);
+            final var size = channel.size();
+            if (size != 0L && size != SIZE) {
+                throw new IOException("not a generator state file");
+            }
+            final var segment = channel.map(FileChannel.MapMode.READ_WRITE, 0L, SIZE, arena);
+            if (size == 0L) {
+                segment.set(LONG, 0L, MAGIC);
+                segment.set(INT, VERSION_OFFSET, VERSION);
+                segment.force();
+            } else if (segment.get(LONG, 0L) != MAGIC) {
+                throw new IOException("not a generator state file");
+            } else if (segment.get(INT, VERSION_OFFSET) != VERSION) {
+                throw new IOException("unsupported generator state file version");
+            }
+            return new GeneratorStateFile(arena, channel, segment, step.toMillis());
+        } catch (final IOException | RuntimeException e) {
+            arena.close();
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the high-water mark. No identifier has been issued with a timestamp at or after it.
+     *
+     * @return The high-water mark.
+     */
+    public Instant highWaterMark() {
+        return Instant.ofEpochMilli(reservedMillis);
+    }
+
+    /**
+     * Get the high-water mark read when the file was opened, which is where generators resume after a restart.
+     *
+     * @return The high-water mark in milliseconds since the Unix epoch.
+     */
+    long recoveredMillis() {
+        return recoveredMillis;
+    }
+
+    /**
+     * Make sure that the mark is after a timestamp that is about to be issued, moving it a step ahead and flushing
+     * the file if it is not.
+     *
+     * @param millis The timestamp in milliseconds since the Unix epoch.
+     */
+    void reserve(final long millis) {
+        if (millis < reservedMillis) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (millis >= reservedMillis) {
+                final var next = millis + stepMillis;
+                segment.set(LONG, MARK_OFFSET, next);
+                segment.force();
+                reservedMillis = next;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Unmap and unlock the file.
+     *
+     * @throws IOException If the file could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        arena.close();
+        channel.close();
+    }
+
+    /**
+     * Lock an open state file for exclusive use by this process.
+     *
+     * @param channel The open file.
+     * @throws IOException If the file is already locked.
+     */
+    private static void lock(final FileChannel channel) throws IOException {
+        try {
+            if (channel.tryLock() == null) {
+                throw new IOException("generator state file is in use by another process");
+            }
+        } catch (final OverlappingFileLockException e) {
+            throw new IOException("generator state file is already open", e);
+        }
+    }
+}
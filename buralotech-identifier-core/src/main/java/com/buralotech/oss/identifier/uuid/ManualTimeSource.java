@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A time source that only changes when it is set or advanced, so that tests and load simulations can control the
+ * timestamps of generated identifiers and fast-forward through time without waiting.
+ */
+public final class ManualTimeSource implements TimeSource {
+
+    /**
+     * The current time in milliseconds since the Unix epoch.
+     */
+    private final AtomicLong now;
+
+    /**
+     * Construct a time source.
+     *
+     * @param start The initial time.
+     */
+    ManualTimeSource(final Instant start) {
+        this.now = new AtomicLong(start.toEpochMilli());
+    }
+
+    /**
+     * Get the current time.
+     *
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    @Override
+    public long currentTimeMillis() {
+        return now.get();
+    }
+
+    /**
+     * Set the current time, which may move it backwards to simulate a clock adjustment.
+     *
+     * @param time The new time.
+     */
+    public void set(final Instant time) {
+        now.set(time.toEpochMilli());
+    }
+
+    /**
+     * Move the current time by an amount, which may be negative.
+     *
+     * @param amount The amount.
+     * @return The new time.
+     */
+    public Instant advance(final Duration amount) {
+        return Instant.ofEpochMilli(now.addAndGet(amount.toMillis()));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Decides where a time-based generator takes the random bits of its identifiers from. Neither source blocks the
+ * calling thread.
+ */
+public final class RandomSource {
+
+    /**
+     * The source that takes random bits from {@link ThreadLocalRandom}.
+     */
+    private static final RandomSource THREAD_LOCAL = new RandomSource("threadLocal", null);
+
+    /**
+     * Describes the source.
+     */
+    private final String name;
+
+    /**
+     * The cryptographically strong generator or {@code null} to use {@link ThreadLocalRandom}.
+     */
+    private final @Nullable RandomGenerator strong;
+
+    /**
+     * Construct a source.
+     *
+     * @param name   Describes the source.
+     * @param strong The cryptographically strong generator or {@code null} to use {@link ThreadLocalRandom}.
+     */
+    private RandomSource(final String name,
+                         final @Nullable RandomGenerator strong) {
+        this.name = name;
+        this.strong = strong;
+    }
+
+    /**
+     * Get the source that takes random bits from {@code DRBG} {@link java.security.SecureRandom} instances. There are
+     * several instances, each with a buffer of random bits, and a caller claims whichever one is free with a
+     * compare-and-set, so callers never take a lock or park. This is the default.
+     *
+     * @return The source.
+     */
+    public static RandomSource strong() {
+        return Strong.SOURCE;
+    }
+
+    /**
+     * Get the source that takes random bits from {@link ThreadLocalRandom}. It is faster than {@link #strong()} but is
+     * not cryptographically strong, so identifiers that use it can be guessed from the ones before them.
+     *
+     * @return The source.
+     */
+    public static RandomSource threadLocal() {
+        return THREAD_LOCAL;
+    }
+
+    /**
+     * Get a generator that the calling thread can use.
+     *
+     * @return The generator.
+     */
+    RandomGenerator current() {
+        return strong == null ? ThreadLocalRandom.current() : strong;
+    }
+
+    /**
+     * Describe the source.
+     *
+     * @return The description.
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Holds the strong source, which is created when it is first used because seeding its instances takes time.
+     */
+    private static final class Strong {
+
+        /**
+         * The strong source.
+         */
+        private static final RandomSource SOURCE = new RandomSource(
+                "strong",
+                new StripedSecureRandom(Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1)));
+    }
+}
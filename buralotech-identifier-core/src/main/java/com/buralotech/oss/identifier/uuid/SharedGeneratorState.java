@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.random.RandomGenerator;
+
+/**
+ * A small memory-mapped file through which type 7 generators in different JVMs on the same host share their last
+ * issued timestamp and counter. Each identifier is claimed with a single compare-and-set on the mapped file, so the
+ * most significant halves of identifiers issued on the host are strictly increasing and cannot collide, without
+ * locks or a network service. The state also survives process restarts for as long as the host stays up.
+ * <table>
+ *     <caption>Layout (32 bytes, big-endian)</caption>
+ *     <tr><th>Offset</th><th>Size</th><th>Field</th></tr>
+ *     <tr><td>0</td><td>8</td><td>Magic number, the ASCII characters {@code BRLIDSHR}</td></tr>
+ *     <tr><td>8</td><td>4</td><td>Format version, currently {@code 1}</td></tr>
+ *     <tr><td>12</td><td>4</td><td>Reserved, must be zero</td></tr>
+ *     <tr><td>16</td><td>8</td><td>The timestamp of the last identifier in milliseconds since the Unix epoch shifted
+ *     left by 12 bits and combined with its counter</td></tr>
+ *     <tr><td>24</td><td>8</td><td>Reserved, must be zero</td></tr>
+ * </table>
+ */
+public final class SharedGeneratorState implements Closeable {
+
+    /**
+     * Layout used to access big-endian longs in the mapped file.
+     */
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Layout used to access big-endian ints in the mapped file.
+     */
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Atomically updates big-endian longs in the mapped file.
+     */
+    private static final VarHandle STATE = LONG.varHandle();
+
+    /**
+     * The ASCII characters {@code BRLIDSHR}.
+     */
+    private static final long MAGIC = 0x42524C4944534852L;
+
+    /**
+     * The format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the file.
+     */
+    private static final long SIZE = 32L;
+
+    /**
+     * The offset of the format version.
+     */
+    private static final long VERSION_OFFSET = 8L;
+
+    /**
+     * The offset of the shared state.
+     */
+    private static final long STATE_OFFSET = 16L;
+
+    /**
+     * The largest value of the counter.
+     */
+    private static final long COUNTER_MASK = 0x0FFFL;
+
+    /**
+     * The counter of the first identifier in a millisecond is below this random bound.
+     */
+    private static final int COUNTER_START_BOUND = 0x0800;
+
+    /**
+     * Owns the mapping of the file.
+     */
+    private final Arena arena;
+
+    /**
+     * The mapped file.
+     */
+    private final MemorySegment segment;
+
+    /**
+     * Construct the shared state.
+     *
+     * @param arena   Owns the mapping of the file.
+     * @param segment The mapped file.
+     */
+    private SharedGeneratorState(final Arena arena,
+                                 final MemorySegment segment) {
+        this.arena = arena;
+        this.segment = segment;
+    }
+
+    /**
+     * Open the shared state, creating the file if it does not exist. Every process that generates identifiers on
+     * the host must open the same path.
+     *
+     * @param path The file path.
+     * @return The shared state.
+     * @throws IOException If the file could not be mapped or is not a valid shared state file.
+     */
+    public static SharedGeneratorState open(final Path path) throws IOException {
+        final var arena = Arena.ofShared();
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var lock = channel.lock();
+            try {
+                final var size = channel.size();
+                if (size != 0L && size != SIZE) {
+                    throw new IOException("not a shared generator state file");
+                }
+                final var segment = channel.map(FileChannel.MapMode.READ_WRITE, 0L, SIZE, arena);
+                if (size == 0L) {
+                    segment.set(LONG, 0L, MAGIC);
+                    segment.set(INT, VERSION_OFFSET, VERSION);
+                } else if (segment.get(LONG, 0L) != MAGIC) {
+                    throw new IOException("not a shared generator state file");
+                } else if (segment.get(INT, VERSION_OFFSET) != VERSION) {
+                    throw new IOException("unsupported shared generator state file version");
+                }
+                return new SharedGeneratorState(arena, segment);
+            } finally {
+                lock.release();
+            }
+        } catch (final IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Claim the timestamp and counter of the next identifier. If the clock has moved past the last timestamp the
+     * counter restarts at a random value, otherwise the last timestamp and counter are incremented as one number so
+     * that a full counter carries into the timestamp.
+     *
+     * @param now    The current time in milliseconds since the Unix epoch.
+     * @param random Chooses the first counter of a millisecond.
+     * @return The timestamp shifted left by 12 bits and combined with the counter.
+     */
+    long next(final long now,
+              final RandomGenerator random) {
+        var current = (long) STATE.getVolatile(segment, STATE_OFFSET);
+        var start = -1L;
+        while (true) {
+            final long next;
+            if (now > current >>> 12) {
+                if (start < 0L) {
+                    start = random.nextInt(COUNTER_START_BOUND);
+                }
+                next = (now << 12) | start;
+            } else {
+                next = current + 1L;
+            }
+            final var witness = (long) STATE.compareAndExchange(segment, STATE_OFFSET, current, next);
+            if (witness == current) {
+                return next;
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * Extract the timestamp from a value returned by {@link #next(long, RandomGenerator)}.
+     *
+     * @param state The value.
+     * @return The timestamp in milliseconds since the Unix epoch.
+     */
+    static long millis(final long state) {
+        return state >>> 12;
+    }
+
+    /**
+     * Extract the counter from a value returned by {@link #next(long, RandomGenerator)}.
+     *
+     * @param state The value.
+     * @return The counter.
+     */
+    static long counter(final long state) {
+        return state & COUNTER_MASK;
+    }
+
+    /**
+     * Unmap the file. The state in the file is kept for other processes.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.random.RandomGenerator;
+
+/**
+ * Takes random bits from a power of two number of {@code DRBG} {@link SecureRandom} instances. A {@link SecureRandom}
+ * shared by every thread serializes its callers, so each instance is claimed by one caller at a time with a
+ * compare-and-set and a caller that finds an instance busy tries the next one instead of waiting. Having more
+ * instances than processors means a free one is almost always found on the first sweep. Each instance fills a buffer
+ * with one request and hands out longs from it, and is seeded before first use so that seeding never happens during
+ * generation.
+ */
+final class StripedSecureRandom implements RandomGenerator {
+
+    /**
+     * The number of bytes requested from an instance at a time.
+     */
+    private static final int BUFFER_BYTES = 512;
+
+    /**
+     * Reads a long from a byte array.
+     */
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    /**
+     * The instances and their buffers.
+     */
+    private final Stripe[] stripes;
+
+    /**
+     * Holds {@code 1} for each instance that is claimed by a caller.
+     */
+    private final AtomicIntegerArray claimed;
+
+    /**
+     * Selects an instance from a number.
+     */
+    private final int mask;
+
+    /**
+     * Construct the generator.
+     *
+     * @param count The number of instances, which must be a power of two.
+     * @throws IllegalStateException If the {@code DRBG} algorithm is not available.
+     */
+    StripedSecureRandom(final int count) {
+        stripes = new Stripe[count];
+        for (var i = 0; i < count; i++) {
+            stripes[i] = new Stripe(drbg());
+        }
+        claimed = new AtomicIntegerArray(count);
+        mask = count - 1;
+    }
+
+    /**
+     * Get 64 random bits from whichever instance is free, starting from a random one so that callers spread out.
+     *
+     * @return The random bits.
+     */
+    @Override
+    public long nextLong() {
+        var index = ThreadLocalRandom.current().nextInt();
+        while (true) {
+            for (var i = 0; i <= mask; i++, index++) {
+                final var stripe = index & mask;
+                if (claimed.compareAndSet(stripe, 0, 1)) {
+                    try {
+                        return stripes[stripe].nextLong();
+                    } finally {
+                        claimed.set(stripe, 0);
+                    }
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Create and seed a {@code DRBG} instance.
+     *
+     * @return The instance.
+     * @throws IllegalStateException If the {@code DRBG} algorithm is not available.
+     */
+    private static SecureRandom drbg() {
+        try {
+            final var random = SecureRandom.getInstance("DRBG");
+            random.nextBytes(new byte[1]);
+            return random;
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("DRBG is not available", e);
+        }
+    }
+
+    /**
+     * An instance and the unused part of its buffer, which are only touched by the caller that claimed them.
+     */
+    private static final class Stripe {
+
+        /**
+         * The instance.
+         */
+        private final SecureRandom random;
+
+        /**
+         * The random bytes.
+         */
+        private final byte[] buffer = new byte[BUFFER_BYTES];
+
+        /**
+         * The offset of the next unused long in the buffer.
+         */
+        private int position = BUFFER_BYTES;
+
+        /**
+         * Construct a stripe.
+         *
+         * @param random The instance.
+         */
+        private Stripe(final SecureRandom random) {
+            this.random = random;
+        }
+
+        /**
+         * Get the next long from the buffer, refilling it when it is used up.
+         *
+         * @return The random bits.
+         */
+        private long nextLong() {
+            if (position == BUFFER_BYTES) {
+                random.nextBytes(buffer);
+                position = 0;
+            }
+            final var value = (long) LONG.get(buffer, position);
+            position += Long.BYTES;
+            return value;
+        }
+    }
+}
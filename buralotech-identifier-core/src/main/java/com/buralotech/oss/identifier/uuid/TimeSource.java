@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Supplies the current time to the generators of time-based identifiers. Implementations must be thread-safe.
+ */
+@FunctionalInterface
+public interface TimeSource {
+
+    /**
+     * Get the current time.
+     *
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    long currentTimeMillis();
+
+    /**
+     * Get a time source that reads the system clock on every call.
+     *
+     * @return The time source.
+     */
+    static TimeSource system() {
+        return System::currentTimeMillis;
+    }
+
+    /**
+     * Create a time source that reads the system clock on a background thread at a fixed interval, so that getting
+     * the time is a single volatile read. The time source must be closed to stop the background thread.
+     *
+     * @param resolution The interval between reads of the system clock.
+     * @return The time source.
+     * @throws IllegalArgumentException If the resolution is not positive.
+     */
+    static CoarseTimeSource coarse(final Duration resolution) {
+        return new CoarseTimeSource(resolution);
+    }
+
+    /**
+     * Create a time source whose time only changes when it is explicitly set or advanced, for deterministic tests
+     * and simulations.
+     *
+     * @param start The initial time.
+     * @return The time source.
+     */
+    static ManualTimeSource manual(final Instant start) {
+        return new ManualTimeSource(start);
+    }
+}
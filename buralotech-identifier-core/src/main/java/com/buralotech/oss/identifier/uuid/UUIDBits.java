@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Helpers that read and write the big-endian 64-bit halves of the binary representation of a UUID without allocating
+ * and that derive a well-distributed 64-bit hash from them.
+ */
+public final class UUIDBits {
+
+    /**
+     * Used to view a byte array as an array of big-endian longs.
+     */
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Prevent instantiation.
+     */
+    private UUIDBits() {
+    }
+
+    /**
+     * Read the most significant 64 bits of a binary representation.
+     *
+     * @param binary The binary representation.
+     * @param offset The position in the byte array from which to read.
+     * @return The most significant 64 bits.
+     */
+    public static long mostSignificantBits(final byte[] binary,
+                                           final int offset) {
+        return (long) LONG.get(binary, offset);
+    }
+
+    /**
+     * Read the least significant 64 bits of a binary representation.
+     *
+     * @param binary The binary representation.
+     * @param offset The position in the byte array from which to read.
+     * @return The least significant 64 bits.
+     */
+    public static long leastSignificantBits(final byte[] binary,
+                                            final int offset) {
+        return (long) LONG.get(binary, offset + 8);
+    }
+
+    /**
+     * Write the most and least significant 64 bits as a binary representation.
+     *
+     * @param binary The destination byte array.
+     * @param offset The position in the byte array at which to write.
+     * @param msb    The most significant 64 bits.
+     * @param lsb    The least significant 64 bits.
+     */
+    public static void putBits(final byte[] binary,
+                               final int offset,
+                               final long msb,
+                               final long lsb) {
+        LONG.set(binary, offset, msb);
+        LONG.set(binary, offset + 8, lsb);
+    }
+
+    /**
+     * Get a well-distributed 64-bit hash of a UUID given as its most and least significant 64 bits. The 62 bits after
+     * the variant of a Type 4 or Type 7 UUID, extended with the two low-order bits of the most significant half, are
+     * mixed once with {@link #mix(long)}, so the timestamp prefix of a Type 7 UUID does not skew the result and
+     * neither does a node identifier or block position in the lowest of those bits. All other UUIDs, including Type 6
+     * UUIDs whose least significant half is constant for a node, are mixed with both halves.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The hash.
+     */
+    public static long hash(final long msb,
+                            final long lsb) {
+        final var version = (int) (msb >>> 12) & 0x0F;
+        return lsb >>> 62 == 2L && (version == 4 || version == 7) ? mix((lsb << 2) | (msb & 0x03L)) : mix(msb ^ mix(lsb));
+    }
+
+    /**
+     * The finaliser of the 64-bit MurmurHash3 which spreads every input bit across the whole result.
+     *
+     * @param value The value to mix.
+     * @return The mixed value.
+     */
+    public static long mix(final long value) {
+        var result = value;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+}
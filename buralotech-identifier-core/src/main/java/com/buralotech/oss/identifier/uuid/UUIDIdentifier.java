@@ -42,6 +42,26 @@ public record UUIDIdentifier(String text, byte[] binary) implements Identifier {
         this(text, HexFormat.of().parseHex(hex));
     }
 
+    /**
+     * Get the most significant 64 bits of the binary representation.
+     *
+     * @return The first 8 bytes of the binary representation as a big-endian long.
+     */
+    @Override
+    public long mostSignificantBits() {
+        return UUIDBits.mostSignificantBits(binary, 0);
+    }
+
+    /**
+     * Get the least significant 64 bits of the binary representation.
+     *
+     * @return The last 8 bytes of the binary representation as a big-endian long.
+     */
+    @Override
+    public long leastSignificantBits() {
+        return UUIDBits.leastSignificantBits(binary, 0);
+    }
+
     /**
      * Get the identifier as a UUID.
      *
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierBlock;
+import com.buralotech.oss.identifier.api.IdentifierService;
+
+import java.util.Objects;
+
+/**
+ * A block of type 7 identifiers reserved from a {@link Version7Generator}. Every identifier in the block shares the
+ * timestamp and counter of a single identifier claimed from the generator, so the block never runs ahead of the
+ * clock however large it is. The identifiers are told apart by the 62 bits after the variant, which hold a random
+ * starting value plus the position above the node identifier, so they increase through the block and no two
+ * identifiers in it are equal.
+ */
+final class UUIDIdentifierBlock implements IdentifierBlock {
+
+    /**
+     * Used to create identifiers from their bits.
+     */
+    private final IdentifierService identifierService;
+
+    /**
+     * The most significant 64 bits shared by every identifier in the block.
+     */
+    private final long msb;
+
+    /**
+     * The least significant 64 bits of the first identifier.
+     */
+    private final long lsb;
+
+    /**
+     * The number of bits reserved for the node identifier, which the position is shifted above.
+     */
+    private final int nodeBits;
+
+    /**
+     * The number of identifiers.
+     */
+    private final int size;
+
+    /**
+     * Construct a block.
+     *
+     * @param identifierService Used to create identifiers from their bits.
+     * @param msb               The most significant 64 bits shared by every identifier in the block.
+     * @param lsb               The least significant 64 bits of the first identifier.
+     * @param nodeBits          The number of bits reserved for the node identifier.
+     * @param size              The number of identifiers.
+     */
+    UUIDIdentifierBlock(final IdentifierService identifierService,
+                        final long msb,
+                        final long lsb,
+                        final int nodeBits,
+                        final int size) {
+        this.identifierService = identifierService;
+        this.msb = msb;
+        this.lsb = lsb;
+        this.nodeBits = nodeBits;
+        this.size = size;
+    }
+
+    /**
+     * Get the number of identifiers in the block.
+     *
+     * @return The number of identifiers.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the identifier at a position in the block.
+     *
+     * @param index The position.
+     * @return The identifier.
+     */
+    @Override
+    public Identifier get(final int index) {
+        return identifierService.fromBits(mostSignificantBits(index), leastSignificantBits(index));
+    }
+
+    /**
+     * Get the most significant 64 bits of the identifier at a position in the block.
+     *
+     * @param index The position.
+     * @return The most significant bits.
+     */
+    @Override
+    public long mostSignificantBits(final int index) {
+        Objects.checkIndex(index, size);
+        return msb;
+    }
+
+    /**
+     * Get the least significant 64 bits of the identifier at a position in the block.
+     *
+     * @param index The position.
+     * @return The least significant bits.
+     */
+    @Override
+    public long leastSignificantBits(final int index) {
+        return lsb + ((long) Objects.checkIndex(index, size) << nodeBits);
+    }
+}
@@ -17,6 +17,8 @@
 package com.buralotech.oss.identifier.uuid;
 
 import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierBlock;
+import com.buralotech.oss.identifier.api.IdentifierCursor;
 import com.buralotech.oss.identifier.api.IdentifierService;
 import org.jspecify.annotations.Nullable;
 
@@ -89,6 +91,31 @@ public final class UUIDIdentifierService implements IdentifierService {
      */
     private static final long EPOCH_ADJ = 122192928000000000L;
 
+    /**
+     * The version nibble of the most significant 64 bits.
+     */
+    private static final long VERSION_MASK = 0xF000L;
+
+    /**
+     * The bits of the least significant 64 bits that follow the variant.
+     */
+    private static final long TAIL_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    /**
+     * Flag set in the first digit of a cursor token when the direction is backward.
+     */
+    private static final int CURSOR_BACKWARD = 1;
+
+    /**
+     * Flag set in the first digit of a cursor token when a time bound follows the identifier.
+     */
+    private static final int CURSOR_BOUNDED = 2;
+
+    /**
+     * The number of Base64 digits used for the time bound of a cursor token.
+     */
+    private static final int CURSOR_BOUND_DIGITS = 8;
+
     /**
      * Version number for Type 4 UUIDs.
      */
@@ -104,6 +131,12 @@ public final class UUIDIdentifierService implements IdentifierService {
      */
     public static final String V7 = "v7";
 
+    /**
+     * The largest number of identifiers that can be reserved in one block, which still leaves the positions of a Type 7
+     * block with a full node identifier 64 times as many random starting values as the block has identifiers.
+     */
+    public static final int MAX_BLOCK_SIZE = 1 << 24;
+
     /**
      * Delegate that encapsulates logic that is specific to the UUID format.
      */
@@ -130,6 +163,46 @@ public final class UUIDIdentifierService implements IdentifierService {
         return new UUIDIdentifier(text, binary);
     }
 
+    /**
+     * Generate an identifier whose embedded timestamp is a given time rather than the current time, for example to
+     * backfill historical records. The timestamp keeps as much of the sub-millisecond precision of the time as the
+     * UUID format allows.
+     *
+     * @param time The time.
+     * @return The generated identifier.
+     * @throws UnsupportedOperationException If the UUID format does not embed a timestamp.
+     * @throws IllegalArgumentException      If the time cannot be represented.
+     */
+    @Override
+    public Identifier generate(final Instant time) {
+        final long ticks;
+        try {
+            ticks = Math.addExact(Math.multiplyExact(time.getEpochSecond(), TICKS_PER_SECOND), time.getNano() / 100 + EPOCH_ADJ);
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("time cannot be represented", e);
+        }
+        return doFromBinary(delegate.generate(ticks));
+    }
+
+    /**
+     * Reserve a block of identifiers for bulk use. For Type 7 UUIDs every identifier in the block shares the timestamp
+     * and counter of one identifier claimed from the generator and they count up through the random bits, so even the
+     * largest block is no further ahead of the clock than a single identifier. The identifiers are only created when
+     * they are read.
+     *
+     * @param n The number of identifiers to reserve.
+     * @return The block.
+     * @throws UnsupportedOperationException If the UUID format cannot be reserved in blocks.
+     * @throws IllegalArgumentException      If the number of identifiers is not between 1 and {@link #MAX_BLOCK_SIZE}.
+     */
+    @Override
+    public IdentifierBlock reserveBlock(final int n) {
+        if (n < 1 || n > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("block size must be between 1 and " + MAX_BLOCK_SIZE);
+        }
+        return delegate.reserveBlock(this, n);
+    }
+
     /**
      * Decode an identifier using its text representation.
      *
@@ -194,6 +267,24 @@ public final class UUIDIdentifierService implements IdentifierService {
         return doFromBinary(binary);
     }
 
+    /**
+     * Decode an identifier from the most and least significant 64 bits of its binary representation.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The identifier.
+     */
+    @Override
+    public Identifier fromBits(final long msb,
+                               final long lsb) {
+        final var binary = new byte[16];
+        UUIDBits.putBits(binary, 0, msb, lsb);
+        if (!delegate.isValidBinary(binary, 0)) {
+            throw new IllegalArgumentException("invalid binary representation of identifier");
+        }
+        return doFromBinary(binary);
+    }
+
     /**
      * Construct calculate the text representation and return an identifier encapsulating
      * the binary and text representations.
@@ -381,6 +472,158 @@ public final class UUIDIdentifierService implements IdentifierService {
         }
     }
 
+    /**
+     * Extract the timestamp from an identifier as milliseconds since the Unix epoch without allocating.
+     *
+     * @param identifier The identifier.
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    @Override
+    public long toEpochMilli(final Identifier identifier) {
+        if (identifier instanceof UUIDIdentifier uuidIdentifier) {
+            return delegate.toEpochMilli(uuidIdentifier.binary());
+        } else {
+            throw new IllegalArgumentException("UUIDIdentifier is required");
+        }
+    }
+
+    /**
+     * Extract the timestamp from an identifier given as the most and least significant 64 bits of its binary
+     * representation as milliseconds since the Unix epoch. The bits are not validated so that bulk extraction from
+     * packed identifiers does not need to create a byte array for each identifier.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    @Override
+    public long toEpochMilli(final long msb,
+                             final long lsb) {
+        return delegate.toEpochMilli(msb, lsb);
+    }
+
+    /**
+     * Get the least identifier that is greater than an identifier. Only the bits that are not reserved for the version
+     * and variant are incremented so the result is always a valid identifier.
+     *
+     * @param identifier The identifier.
+     * @return The successor.
+     * @throws IllegalArgumentException If the identifier is the greatest possible identifier.
+     */
+    @Override
+    public Identifier successor(final Identifier identifier) {
+        final var msb = identifier.mostSignificantBits();
+        final var lsb = identifier.leastSignificantBits();
+        if ((lsb & TAIL_MASK) != TAIL_MASK) {
+            return fromBits(msb, lsb + 1L);
+        }
+        if ((msb | VERSION_MASK) == -1L) {
+            throw new IllegalArgumentException("identifier has no successor");
+        }
+        // Setting the version bits carries the increment across them and they are restored afterwards
+        return fromBits((((msb | VERSION_MASK) + 1L) & ~VERSION_MASK) | (msb & VERSION_MASK), lsb & ~TAIL_MASK);
+    }
+
+    /**
+     * Get the greatest identifier that is less than an identifier. Only the bits that are not reserved for the version
+     * and variant are decremented so the result is always a valid identifier.
+     *
+     * @param identifier The identifier.
+     * @return The predecessor.
+     * @throws IllegalArgumentException If the identifier is the least possible identifier.
+     */
+    @Override
+    public Identifier predecessor(final Identifier identifier) {
+        final var msb = identifier.mostSignificantBits();
+        final var lsb = identifier.leastSignificantBits();
+        if ((lsb & TAIL_MASK) != 0L) {
+            return fromBits(msb, lsb - 1L);
+        }
+        if ((msb & ~VERSION_MASK) == 0L) {
+            throw new IllegalArgumentException("identifier has no predecessor");
+        }
+        // Clearing the version bits borrows across them and they are restored afterwards
+        return fromBits((((msb & ~VERSION_MASK) - 1L) & ~VERSION_MASK) | (msb & VERSION_MASK), lsb | TAIL_MASK);
+    }
+
+    /**
+     * Encode a keyset pagination cursor as an opaque URL-safe token using the same Base64 digits as the text
+     * representation. The token is one digit holding the direction and a flag for the time bound, the 22 digit text
+     * representation of the last identifier and, if there is a time bound, 8 digits holding its milliseconds since
+     * the Unix epoch.
+     *
+     * @param cursor The cursor.
+     * @return The token of 23 or 31 characters.
+     * @throws IllegalArgumentException If the time bound is before the Unix epoch or too far in the future.
+     */
+    @Override
+    public String encodeCursor(final IdentifierCursor cursor) {
+        final var bound = cursor.bound();
+        final var chars = new char[bound == null ? 23 : 23 + CURSOR_BOUND_DIGITS];
+        chars[0] = ENCODING[(cursor.direction() == IdentifierCursor.Direction.BACKWARD ? CURSOR_BACKWARD : 0)
+                | (bound == null ? 0 : CURSOR_BOUNDED)];
+        cursor.last().text().getChars(0, 22, chars, 1);
+        if (bound != null) {
+            final var millis = bound.toEpochMilli();
+            if (millis < 0L || millis >>> (6 * CURSOR_BOUND_DIGITS) != 0L) {
+                throw new IllegalArgumentException("cursor bound is out of range");
+            }
+            for (var i = 0; i < CURSOR_BOUND_DIGITS; i++) {
+                chars[23 + i] = ENCODING[(int) (millis >>> (6 * (CURSOR_BOUND_DIGITS - 1 - i))) & 0x3F];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Decode a token created by {@link #encodeCursor(IdentifierCursor)}.
+     *
+     * @param token The token.
+     * @return The cursor.
+     * @throws IllegalArgumentException If the token is not valid.
+     */
+    @Override
+    public IdentifierCursor decodeCursor(final String token) {
+        if (token.length() != 23 && token.length() != 23 + CURSOR_BOUND_DIGITS) {
+            throw new IllegalArgumentException("invalid cursor token");
+        }
+        final var flags = cursorDigit(token, 0);
+        final var bounded = (flags & CURSOR_BOUNDED) != 0;
+        if ((flags & ~(CURSOR_BACKWARD | CURSOR_BOUNDED)) != 0 || bounded != (token.length() > 23)) {
+            throw new IllegalArgumentException("invalid cursor token");
+        }
+        final var last = fromText(token.substring(1, 23));
+        final var direction = (flags & CURSOR_BACKWARD) != 0
+                ? IdentifierCursor.Direction.BACKWARD
+                : IdentifierCursor.Direction.FORWARD;
+        if (!bounded) {
+            return new IdentifierCursor(last, direction);
+        }
+        var millis = 0L;
+        for (var i = 23; i < token.length(); i++) {
+            millis = (millis << 6) | cursorDigit(token, i);
+        }
+        return new IdentifierCursor(last, direction, Instant.ofEpochMilli(millis));
+    }
+
+    /**
+     * Decode a Base64 digit of a cursor token.
+     *
+     * @param token    The token.
+     * @param position The position of the digit.
+     * @return The value of the digit.
+     * @throws IllegalArgumentException If the character is not a Base64 digit.
+     */
+    private static int cursorDigit(final String token,
+                                   final int position) {
+        final var ch = token.charAt(position);
+        final var value = ch < DECODING.length ? DECODING[ch] : -1;
+        if (value == -1) {
+            throw new IllegalArgumentException("invalid cursor token");
+        }
+        return value;
+    }
+
     /**
      * Generate a lower-bound identifier for temporal value that can be used in range queries.
      *
@@ -431,6 +674,27 @@ public final class UUIDIdentifierService implements IdentifierService {
         return new UUIDIdentifierService(delegate);
     }
 
+    /**
+     * Factory method to create an {@link UUIDIdentifierService} for the specified version that takes the timestamps
+     * of generated identifiers from a time source.
+     *
+     * @param version    Should be on of {@code "v4"}, {@code "v6"} or {@code "v7"}. {@code null} or empty strings will be interpreted as {@code "v7"}.
+     * @param timeSource The time source, which is ignored by {@code "v4"}.
+     * @return An {@link UUIDIdentifierService}.
+     * @throws IllegalArgumentException If the version is invalid.
+     */
+    public static UUIDIdentifierService forVersion(@Nullable final String version,
+                                                   final TimeSource timeSource) {
+        final var delegate = switch (version) {
+            case null -> new UUIDVersion7Delegate(timeSource);
+            case V4 -> new UUIDVersion4Delegate();
+            case V6 -> new UUIDVersion6Delegate(timeSource);
+            case "", V7 -> new UUIDVersion7Delegate(timeSource);
+            default -> throw new IllegalArgumentException("Unsupported delegate version: " + version);
+        };
+        return new UUIDIdentifierService(delegate);
+    }
+
     /**
      * Given a temporal value extract the number of UUID ticks (100 nanoseconds).
      *
@@ -15,27 +15,152 @@
  */
 package com.buralotech.oss.identifier.uuid;
 
-import com.fasterxml.uuid.Generators;
 import com.fasterxml.uuid.UUIDType;
+import org.jspecify.annotations.Nullable;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Encapsulates the logic that is specific to the standard type 6 UUID format.
  */
 public final class UUIDVersion6Delegate extends AbstractUUIDVersionDelegate {
 
+    /**
+     * The generator, which counts clock regressions.
+     */
+    private final Version6Generator generator;
+
     /**
      * Construct the delegate by configuring the abstract base class for type 6 UUIDs.
      */
     public UUIDVersion6Delegate() {
+        this(TimeSource.system());
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 6 UUIDs that take their timestamps from
+     * a time source and borrow over clock regressions.
+     *
+     * @param timeSource The time source.
+     */
+    public UUIDVersion6Delegate(final TimeSource timeSource) {
+        this(timeSource, ClockRegressionStrategy.borrow());
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 6 UUIDs that take their timestamps from
+     * a time source and react to clock regressions with a strategy.
+     *
+     * @param timeSource The time source.
+     * @param strategy   Decides how to react when the clock moves backwards.
+     */
+    public UUIDVersion6Delegate(final TimeSource timeSource,
+                                final ClockRegressionStrategy strategy) {
+        this(new Version6Generator(timeSource, strategy, RandomSource.strong(), null));
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 6 UUIDs that take their timestamps from
+     * a time source, react to clock regressions with a strategy and resume from the high-water mark in a state file
+     * after a restart.
+     *
+     * @param timeSource The time source.
+     * @param strategy   Decides how to react when the clock moves backwards.
+     * @param state      Records the high-water mark of the issued timestamps.
+     */
+    public UUIDVersion6Delegate(final TimeSource timeSource,
+                                final ClockRegressionStrategy strategy,
+                                final GeneratorStateFile state) {
+        this(timeSource, strategy, state, RandomSource.strong());
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 6 UUIDs that take their timestamps from
+     * a time source, react to clock regressions with a strategy, optionally resume from the high-water mark in a
+     * state file after a restart and take their clock sequence and node from a random source.
+     *
+     * @param timeSource The time source.
+     * @param strategy   Decides how to react when the clock moves backwards.
+     * @param state      Records the high-water mark of the issued timestamps or {@code null}.
+     * @param random     Supplies the clock sequence and node.
+     */
+    public UUIDVersion6Delegate(final TimeSource timeSource,
+                                final ClockRegressionStrategy strategy,
+                                final @Nullable GeneratorStateFile state,
+                                final RandomSource random) {
+        this(new Version6Generator(timeSource, strategy, random, state));
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 6 UUIDs.
+     *
+     * @param generator Used to generate type 6 UUIDs.
+     */
+    private UUIDVersion6Delegate(final Version6Generator generator) {
         super(
                 "[0-9a-zA-Z_-]{8}[NOPQ][0-9a-zA-Z_-][159DHLPTXaeimquy][0-9a-zA-Z_-]{10}[FVk-]",
-                Generators.timeBasedReorderedGenerator(),
+                generator,
                 UUIDType.TIME_BASED_REORDERED,
                 8,
                 11);
+        this.generator = generator;
+    }
+
+    /**
+     * Get the statistics on the clock regressions observed while generating identifiers.
+     *
+     * @return The statistics.
+     */
+    public ClockRegressionStats clockRegressionStats() {
+        return generator.stats();
+    }
+
+    /**
+     * Generate an identifier with a given timestamp for backfilling historical records. The clock sequence
+     * and node are random, with the multicast bit of the node set as RFC 9562 requires for a random node. The random
+     * bits come from {@link ThreadLocalRandom} for throughput rather than a cryptographically strong source.
+     *
+     * @param ticks The timestamp in 100 nanoseconds since the start of the Gregorian calendar.
+     * @return The generated identifier as a byte array.
+     * @throws IllegalArgumentException If the timestamp cannot be represented.
+     */
+    @Override
+    public byte[] generate(final long ticks) {
+        if (ticks < 0L || ticks >>> 60 != 0L) {
+            throw new IllegalArgumentException("timestamp cannot be represented by a type 6 UUID");
+        }
+        final var binary = new byte[16];
+        UUIDBits.putBits(binary, 0, ((ticks & 0xFFFFFFFFFFFFF000L) << 4) | 0x06000L | (ticks & 0x0FFFL), 0x8000010000000000L | (ThreadLocalRandom.current().nextLong() >>> 2));
+        return binary;
+    }
+
+    /**
+     * Extract the timestamp from the UUID as milliseconds since the Unix epoch. The 60-bit tick count is reassembled
+     * from the bits either side of the version nibble so it can be read without constructing a {@link java.util.UUID}.
+     *
+     * @param binary The binary representation of the UUID.
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    @Override
+    public long toEpochMilli(final byte[] binary) {
+        return toEpochMilli(UUIDBits.mostSignificantBits(binary, 0), UUIDBits.leastSignificantBits(binary, 0));
+    }
+
+    /**
+     * Extract the timestamp from the UUID given as its most and least significant 64 bits as milliseconds since the
+     * Unix epoch.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    @Override
+    public long toEpochMilli(final long msb,
+                             final long lsb) {
+        final var ticks = ((msb >>> 4) & 0xFFFFFFFFFFFFF000L) | (msb & 0x0FFFL);
+        return (ticks - 122192928000000000L) / 10000L;
     }
 
     /**
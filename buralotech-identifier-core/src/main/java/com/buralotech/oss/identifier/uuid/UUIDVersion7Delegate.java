@@ -15,27 +15,334 @@
  */
 package com.buralotech.oss.identifier.uuid;
 
-import com.fasterxml.uuid.Generators;
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierBlock;
+import com.buralotech.oss.identifier.api.IdentifierService;
 import com.fasterxml.uuid.UUIDType;
+import org.jspecify.annotations.Nullable;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Encapsulates the logic that is specific to the standard type 7 UUID format.
+ * Encapsulates the logic that is specific to the standard type 7 UUID format. A delegate may reserve the lowest bits
+ * of {@code rand_b} for a node identifier, as RFC 9562 allows for distributed generation, so that identifiers
+ * generated by differently numbered nodes never collide. The version and variant are unaffected, so validation of
+ * the binary and text representations is the same for every node.
  */
 public final class UUIDVersion7Delegate extends AbstractUUIDVersionDelegate {
 
+    /**
+     * The largest number of bits that can be reserved for a node identifier.
+     */
+    public static final int MAX_NODE_BITS = 32;
+
+    /**
+     * The generator, which counts clock regressions.
+     */
+    private final Version7Generator generator;
+
+    /**
+     * The number of bits reserved for the node identifier.
+     */
+    private final int nodeBits;
+
+    /**
+     * Selects the bits of the node identifier in the least significant half.
+     */
+    private final long nodeMask;
+
+    /**
+     * The node identifier.
+     */
+    private final long node;
+
     /**
      * Construct the delegate by configuring the abstract base class for type 7 UUIDs.
      */
     public UUIDVersion7Delegate() {
+        this(TimeSource.system());
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 7 UUIDs that take their timestamps from
+     * a time source and borrow over clock regressions.
+     *
+     * @param timeSource The time source.
+     */
+    public UUIDVersion7Delegate(final TimeSource timeSource) {
+        this(timeSource, ClockRegressionStrategy.borrow());
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 7 UUIDs that take their timestamps from
+     * a time source and react to clock regressions with a strategy.
+     *
+     * @param timeSource The time source.
+     * @param strategy   Decides how to react when the clock moves backwards.
+     */
+    public UUIDVersion7Delegate(final TimeSource timeSource,
+                                final ClockRegressionStrategy strategy) {
+        this(timeSource, strategy, null, 0, 0);
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 7 UUIDs that take their timestamps from
+     * a time source, react to clock regressions with a strategy and resume from the high-water mark in a state file
+     * after a restart.
+     *
+     * @param timeSource The time source.
+     * @param strategy   Decides how to react when the clock moves backwards.
+     * @param state      Records the high-water mark of the issued timestamps.
+     */
+    public UUIDVersion7Delegate(final TimeSource timeSource,
+                                final ClockRegressionStrategy strategy,
+                                final GeneratorStateFile state) {
+        this(timeSource, strategy, state, 0, 0);
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 7 UUIDs that take their timestamps from
+     * a time source, react to clock regressions with a strategy, optionally resume from the high-water mark in a
+     * state file after a restart and embed a node identifier in the lowest bits of {@code rand_b}.
+     *
+     * @param timeSource The time source.
+     * @param strategy   Decides how to react when the clock moves backwards.
+     * @param state      Records the high-water mark of the issued timestamps or {@code null}.
+     * @param nodeBits   The number of bits reserved for the node identifier, up to {@link #MAX_NODE_BITS}.
+     * @param node       The node identifier, which must fit in the reserved bits and is treated as unsigned.
+     * @throws IllegalArgumentException If the number of bits or the node identifier is out of range.
+     */
+    public UUIDVersion7Delegate(final TimeSource timeSource,
+                                final ClockRegressionStrategy strategy,
+                                final @Nullable GeneratorStateFile state,
+                                final int nodeBits,
+                                final int node) {
+        this(timeSource, strategy, state, nodeBits, node, RandomSource.strong());
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 7 UUIDs that take their timestamps from
+     * a time source, react to clock regressions with a strategy, optionally resume from the high-water mark in a
+     * state file after a restart, embed a node identifier in the lowest bits of {@code rand_b} and take their random
+     * bits from a random source.
+     *
+     * @param timeSource The time source.
+     * @param strategy   Decides how to react when the clock moves backwards.
+     * @param state      Records the high-water mark of the issued timestamps or {@code null}.
+     * @param nodeBits   The number of bits reserved for the node identifier, up to {@link #MAX_NODE_BITS}.
+     * @param node       The node identifier, which must fit in the reserved bits and is treated as unsigned.
+     * @param random     Supplies the random bits.
+     * @throws IllegalArgumentException If the number of bits or the node identifier is out of range.
+     */
+    public UUIDVersion7Delegate(final TimeSource timeSource,
+                                final ClockRegressionStrategy strategy,
+                                final @Nullable GeneratorStateFile state,
+                                final int nodeBits,
+                                final int node,
+                                final RandomSource random) {
+        this(new Version7Generator(timeSource, strategy, random, state, null, nodeMask(nodeBits, node), Integer.toUnsignedLong(node)), nodeBits, node);
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 7 UUIDs that claim their timestamps and
+     * counters from state shared with the other processes on the host, so that identifiers generated on the host are
+     * strictly ordered by their most significant halves and never collide. Clock regressions are always borrowed
+     * over, whatever the other processes do, and are counted by {@link #clockRegressionStats()} as this process sees
+     * them. The shared state already survives process restarts, so neither a strategy nor a state file apply.
+     *
+     * @param timeSource The time source.
+     * @param shared     The state shared with the other processes on the host.
+     * @param nodeBits   The number of bits reserved for the node identifier, up to {@link #MAX_NODE_BITS}.
+     * @param node       The node identifier, which must fit in the reserved bits and is treated as unsigned.
+     * @throws IllegalArgumentException If the number of bits or the node identifier is out of range.
+     */
+    public UUIDVersion7Delegate(final TimeSource timeSource,
+                                final SharedGeneratorState shared,
+                                final int nodeBits,
+                                final int node) {
+        this(timeSource, shared, nodeBits, node, RandomSource.strong());
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 7 UUIDs that claim their timestamps and
+     * counters from state shared with the other processes on the host, always borrow over clock regressions and take
+     * their random bits from a random source.
+     *
+     * @param timeSource The time source.
+     * @param shared     The state shared with the other processes on the host.
+     * @param nodeBits   The number of bits reserved for the node identifier, up to {@link #MAX_NODE_BITS}.
+     * @param node       The node identifier, which must fit in the reserved bits and is treated as unsigned.
+     * @param random     Supplies the random bits.
+     * @throws IllegalArgumentException If the number of bits or the node identifier is out of range.
+     */
+    public UUIDVersion7Delegate(final TimeSource timeSource,
+                                final SharedGeneratorState shared,
+                                final int nodeBits,
+                                final int node,
+                                final RandomSource random) {
+        this(new Version7Generator(timeSource, ClockRegressionStrategy.borrow(), random, null, shared, nodeMask(nodeBits, node), Integer.toUnsignedLong(node)), nodeBits, node);
+    }
+
+    /**
+     * Construct the delegate by configuring the abstract base class for type 7 UUIDs.
+     *
+     * @param generator Used to generate type 7 UUIDs.
+     * @param nodeBits  The number of bits reserved for the node identifier.
+     * @param node      The node identifier.
+     */
+    private UUIDVersion7Delegate(final Version7Generator generator,
+                                 final int nodeBits,
+                                 final int node) {
         super(
                 "[0-9a-zA-Z_-]{8}[RSTU][0-9a-zA-Z_-][159DHLPTXaeimquy][0-9a-zA-Z_-]{10}[FVk-]",
-                Generators.timeBasedEpochRandomGenerator(),
+                generator,
                 UUIDType.TIME_BASED_EPOCH,
                 8,
                 11);
+        this.generator = generator;
+        this.nodeBits = nodeBits;
+        this.nodeMask = (1L << nodeBits) - 1L;
+        this.node = Integer.toUnsignedLong(node);
+    }
+
+    /**
+     * Get the number of bits reserved for the node identifier.
+     *
+     * @return The number of bits, which is {@code 0} if no node identifier is embedded.
+     */
+    public int nodeBits() {
+        return nodeBits;
+    }
+
+    /**
+     * Get the node identifier embedded in identifiers generated by this delegate.
+     *
+     * @return The node identifier.
+     */
+    public int node() {
+        return (int) node;
+    }
+
+    /**
+     * Extract the node identifier from an identifier generated by any delegate with the same number of node bits.
+     * The method has the shape of {@link com.buralotech.oss.identifier.partition.IdentifierRouter} so identifiers can
+     * be routed by the node that generated them.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The node identifier.
+     */
+    public int nodeOf(final long msb,
+                      final long lsb) {
+        return (int) (lsb & nodeMask);
+    }
+
+    /**
+     * Extract the node identifier from an identifier generated by any delegate with the same number of node bits.
+     *
+     * @param identifier The identifier.
+     * @return The node identifier.
+     */
+    public int nodeOf(final Identifier identifier) {
+        return nodeOf(identifier.mostSignificantBits(), identifier.leastSignificantBits());
+    }
+
+    /**
+     * Get the statistics on the clock regressions observed while generating identifiers. A delegate that claims from a
+     * {@link SharedGeneratorState} only counts the regressions seen by this process, and always borrows over them.
+     *
+     * @return The statistics.
+     */
+    public ClockRegressionStats clockRegressionStats() {
+        return generator.stats();
+    }
+
+    /**
+     * Generate an identifier with a given timestamp for backfilling historical records. The 74 bits that follow
+     * the timestamp, apart from any node identifier, are random and come from {@link ThreadLocalRandom} for
+     * throughput rather than a cryptographically strong source.
+     *
+     * @param ticks The timestamp in 100 nanoseconds since the start of the Gregorian calendar.
+     * @return The generated identifier as a byte array.
+     * @throws IllegalArgumentException If the timestamp cannot be represented.
+     */
+    @Override
+    public byte[] generate(final long ticks) {
+        final var millis = Math.floorDiv(ticks - 122192928000000000L, 10000L);
+        if (millis < 0L || millis >>> 48 != 0L) {
+            throw new IllegalArgumentException("timestamp cannot be represented by a type 7 UUID");
+        }
+        final var random = ThreadLocalRandom.current();
+        final var binary = new byte[16];
+        UUIDBits.putBits(binary, 0, (millis << 16) | 0x07000L | (random.nextInt() & 0x0FFFL), 0x8000000000000000L | ((random.nextLong() >>> 2) & ~nodeMask) | node);
+        return binary;
+    }
+
+    /**
+     * Reserve a block that shares the timestamp and counter of one identifier claimed from the generator, so the block
+     * is ordered against other identifiers like a single identifier and never runs ahead of the clock. The 62 bits
+     * after the variant start at a random value, low enough that the last position still fits above the node
+     * identifier, and increase by one position at a time.
+     *
+     * @param identifierService Used to create identifiers from their bits.
+     * @param n                 The number of identifiers.
+     * @return The block.
+     * @throws IllegalStateException If the clock moved backwards and the strategy fails on regressions.
+     */
+    @Override
+    public IdentifierBlock reserveBlock(final IdentifierService identifierService,
+                                        final int n) {
+        final var msb = generator.claim();
+        final var start = ThreadLocalRandom.current().nextLong((1L << (62 - nodeBits)) - n + 1L);
+        return new UUIDIdentifierBlock(identifierService, msb, 0x8000000000000000L | (start << nodeBits) | node, nodeBits, n);
+    }
+
+    /**
+     * Check the node identifier configuration and get the mask that selects the node bits.
+     *
+     * @param nodeBits The number of bits reserved for the node identifier.
+     * @param node     The node identifier.
+     * @return The mask.
+     * @throws IllegalArgumentException If the number of bits or the node identifier is out of range.
+     */
+    private static long nodeMask(final int nodeBits,
+                                 final int node) {
+        if (nodeBits < 0 || nodeBits > MAX_NODE_BITS) {
+            throw new IllegalArgumentException("node bits must be between 0 and " + MAX_NODE_BITS);
+        }
+        final var mask = (1L << nodeBits) - 1L;
+        if ((Integer.toUnsignedLong(node) & ~mask) != 0L) {
+            throw new IllegalArgumentException("node identifier does not fit in " + nodeBits + " bits");
+        }
+        return mask;
+    }
+
+    /**
+     * Extract the timestamp from the UUID as milliseconds since the Unix epoch. The timestamp is the 48 most
+     * significant bits so it can be read without constructing a {@link java.util.UUID}.
+     *
+     * @param binary The binary representation of the UUID.
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    @Override
+    public long toEpochMilli(final byte[] binary) {
+        return toEpochMilli(UUIDBits.mostSignificantBits(binary, 0), UUIDBits.leastSignificantBits(binary, 0));
+    }
+
+    /**
+     * Extract the timestamp from the UUID given as its most and least significant 64 bits as milliseconds since the
+     * Unix epoch.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    @Override
+    public long toEpochMilli(final long msb,
+                             final long lsb) {
+        return msb >>> 16;
     }
 
     /**
@@ -15,6 +15,9 @@
  */
 package com.buralotech.oss.identifier.uuid;
 
+import com.buralotech.oss.identifier.api.IdentifierBlock;
+import com.buralotech.oss.identifier.api.IdentifierService;
+
 import java.time.Instant;
 
 /**
@@ -29,6 +32,31 @@ public interface UUIDVersionDelegate {
      */
     byte[] generate();
 
+    /**
+     * Generate an identifier with a given timestamp and random remaining bits.
+     *
+     * @param ticks The timestamp in 100 nanoseconds since the start of the Gregorian calendar.
+     * @return The generated identifier as a byte array.
+     * @throws UnsupportedOperationException If the UUID format does not embed a timestamp.
+     * @throws IllegalArgumentException      If the timestamp cannot be represented.
+     */
+    default byte[] generate(long ticks) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Reserve a contiguous, strictly increasing run of identifiers that no identifier generated later falls inside.
+     *
+     * @param identifierService Used to create identifiers from their bits.
+     * @param n                 The number of identifiers, which the service has already checked is supported.
+     * @return The block.
+     * @throws UnsupportedOperationException If the UUID format cannot be reserved in blocks.
+     */
+    default IdentifierBlock reserveBlock(final IdentifierService identifierService,
+                                         final int n) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Check that the binary representation is valid. The service has already checked that it is non-null and a valid length.
      *
@@ -54,6 +82,31 @@ public interface UUIDVersionDelegate {
      */
     Instant toInstant(byte[] binary);
 
+    /**
+     * Extract the timestamp from the UUID as milliseconds since the Unix epoch.
+     *
+     * @param binary The binary representation of the UUID.
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    default long toEpochMilli(final byte[] binary) {
+        return toInstant(binary).toEpochMilli();
+    }
+
+    /**
+     * Extract the timestamp from the UUID given as its most and least significant 64 bits as milliseconds since the
+     * Unix epoch.
+     *
+     * @param msb The most significant 64 bits.
+     * @param lsb The least significant 64 bits.
+     * @return The number of milliseconds since the Unix epoch.
+     */
+    default long toEpochMilli(final long msb,
+                              final long lsb) {
+        final var binary = new byte[16];
+        UUIDBits.putBits(binary, 0, msb, lsb);
+        return toEpochMilli(binary);
+    }
+
     /**
      * Create a UUID as a byte array from a timestamp.
      *
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.fasterxml.uuid.NoArgGenerator;
+import com.fasterxml.uuid.UUIDType;
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Generates monotonic type 6 UUIDs with a random node, which has its multicast bit set as RFC 9562 requires, and a
+ * random clock sequence. Identifiers within the same millisecond take consecutive 100 nanosecond ticks, running ahead
+ * of the clock rather than waiting for it when more than 10,000 are generated in a millisecond. The clock sequence and
+ * node come from a {@link RandomSource}, which never blocks and is cryptographically strong unless
+ * {@link RandomSource#threadLocal()} is chosen. The timestamp and clock sequence are replaced together with a
+ * compare-and-set, so callers do not take a lock, pin a virtual thread to its carrier or park under contention. Clock
+ * regressions are handled by a {@link ClockRegressionStrategy} without blocking, and a restart chooses a new clock
+ * sequence. An optional {@link GeneratorStateFile} carries the issued timestamps across restarts, at the cost of a
+ * lock and a flush each time its mark is reserved a step further ahead.
+ */
+final class Version6Generator extends NoArgGenerator {
+
+    /**
+     * The number of 100 nanosecond ticks in a millisecond.
+     */
+    private static final long TICKS_PER_MILLISECOND = 10000L;
+
+    /**
+     * The number of ticks between the start of the Gregorian calendar and the Unix epoch.
+     */
+    private static final long EPOCH_ADJ = 122192928000000000L;
+
+    /**
+     * Supplies the current time.
+     */
+    private final TimeSource timeSource;
+
+    /**
+     * Decides how to react when the clock moves backwards.
+     */
+    private final ClockRegressionStrategy strategy;
+
+    /**
+     * Supplies the clock sequence and node.
+     */
+    private final RandomSource random;
+
+    /**
+     * Records the high-water mark of the issued timestamps or {@code null}.
+     */
+    private final @Nullable GeneratorStateFile state;
+
+    /**
+     * Counts clock regressions.
+     */
+    private final ClockRegressionStats stats = new ClockRegressionStats(6);
+
+    /**
+     * The latest time reported by the clock.
+     */
+    private final AtomicLong lastClockMillis = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * The timestamp and least significant bits of the last identifier.
+     */
+    private final AtomicReference<Last> last;
+
+    /**
+     * Construct a generator.
+     *
+     * @param timeSource Supplies the current time.
+     * @param strategy   Decides how to react when the clock moves backwards.
+     * @param random     Supplies the clock sequence and node.
+     * @param state      Records the high-water mark of the issued timestamps or {@code null}.
+     */
+    Version6Generator(final TimeSource timeSource,
+                      final ClockRegressionStrategy strategy,
+                      final RandomSource random,
+                      final @Nullable GeneratorStateFile state) {
+        this.timeSource = timeSource;
+        this.strategy = strategy;
+        this.random = random;
+        this.state = state;
+        this.last = new AtomicReference<>(new Last(state == null ? Long.MIN_VALUE : state.recoveredMillis() * TICKS_PER_MILLISECOND + EPOCH_ADJ - 1L, randomLsb()));
+    }
+
+    /**
+     * Get the clock regression statistics.
+     *
+     * @return The statistics.
+     */
+    ClockRegressionStats stats() {
+        return stats;
+    }
+
+    /**
+     * Get the UUID type.
+     *
+     * @return {@link UUIDType#TIME_BASED_REORDERED}.
+     */
+    @Override
+    public UUIDType getType() {
+        return UUIDType.TIME_BASED_REORDERED;
+    }
+
+    /**
+     * Generate a UUID.
+     *
+     * @return The UUID.
+     * @throws IllegalStateException If the clock moved backwards and the strategy fails on regressions.
+     */
+    @Override
+    public UUID generate() {
+        final var now = timeSource.currentTimeMillis();
+        final var ticks = now * TICKS_PER_MILLISECOND + EPOCH_ADJ;
+        final var restartLsb = stats.observe(strategy, lastClockMillis, timeSource, now) ? randomLsb() : 0L;
+        var current = last.get();
+        while (true) {
+            final var next = restartLsb != 0L ? new Last(ticks, restartLsb) : new Last(Math.max(ticks, current.ticks() + 1L), current.lsb());
+            final var witness = last.compareAndExchange(current, next);
+            if (witness == current) {
+                if (state != null) {
+                    state.reserve(Math.floorDiv(next.ticks() - EPOCH_ADJ, TICKS_PER_MILLISECOND));
+                }
+                return new UUID(((next.ticks() & 0xFFFFFFFFFFFFF000L) << 4) | 0x6000L | (next.ticks() & 0x0FFFL), next.lsb());
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * Choose a random clock sequence and node.
+     *
+     * @return The least significant 64 bits.
+     */
+    private long randomLsb() {
+        return 0x8000010000000000L | (random.current().nextLong() >>> 2);
+    }
+
+    /**
+     * The timestamp and least significant bits of the last identifier, which are replaced together.
+     *
+     * @param ticks The timestamp in ticks.
+     * @param lsb   The least significant 64 bits shared by identifiers until the next restart.
+     */
+    private record Last(long ticks, long lsb) {
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.fasterxml.uuid.NoArgGenerator;
+import com.fasterxml.uuid.UUIDType;
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates monotonic type 7 UUIDs. The 12 bits after the version are a counter, as in method 1 of RFC 9562, that
+ * starts at a random value below 2048 in each millisecond and carries into the timestamp when it overflows. The 62
+ * bits after the variant are random for every identifier, so they remain usable as a hash, except for an optional
+ * node identifier in their lowest bits. The random bits come from a {@link RandomSource}, which never blocks and is
+ * cryptographically strong unless {@link RandomSource#threadLocal()} is chosen. The timestamp and counter are
+ * held as one number that is claimed with a compare-and-set, so callers do not take a lock, pin a virtual thread to
+ * its carrier or park under contention. Clock regressions are handled by a {@link ClockRegressionStrategy} without
+ * blocking. An optional {@link GeneratorStateFile} carries the issued timestamps across restarts, at the cost of a
+ * lock and a flush each time its mark is reserved a step further ahead. If a {@link SharedGeneratorState} is given
+ * the timestamp and counter are claimed from it instead, which orders identifiers across all the processes on the
+ * host that share it. The shared state always borrows over regressions, which are still counted as this process
+ * observes them.
+ */
+final class Version7Generator extends NoArgGenerator {
+
+    /**
+     * Supplies the current time.
+     */
+    private final TimeSource timeSource;
+
+    /**
+     * Decides how to react when the clock moves backwards.
+     */
+    private final ClockRegressionStrategy strategy;
+
+    /**
+     * Supplies the random bits.
+     */
+    private final RandomSource random;
+
+    /**
+     * Records the high-water mark of the issued timestamps or {@code null}.
+     */
+    private final @Nullable GeneratorStateFile state;
+
+    /**
+     * The timestamp and counter shared with other processes or {@code null}.
+     */
+    private final @Nullable SharedGeneratorState shared;
+
+    /**
+     * Selects the bits of the node identifier in the least significant half.
+     */
+    private final long nodeMask;
+
+    /**
+     * The node identifier.
+     */
+    private final long node;
+
+    /**
+     * Counts clock regressions.
+     */
+    private final ClockRegressionStats stats = new ClockRegressionStats(7);
+
+    /**
+     * The latest time reported by the clock.
+     */
+    private final AtomicLong lastClockMillis = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * The timestamp of the last identifier shifted left by 12 bits and combined with its counter.
+     */
+    private final AtomicLong last = new AtomicLong();
+
+    /**
+     * Construct a generator.
+     *
+     * @param timeSource Supplies the current time.
+     * @param strategy   Decides how to react when the clock moves backwards.
+     * @param random     Supplies the random bits.
+     * @param state      Records the high-water mark of the issued timestamps or {@code null}.
+     * @param shared     The timestamp and counter shared with other processes or {@code null}.
+     * @param nodeMask   Selects the bits of the node identifier in the least significant half.
+     * @param node       The node identifier.
+     */
+    Version7Generator(final TimeSource timeSource,
+                      final ClockRegressionStrategy strategy,
+                      final RandomSource random,
+                      final @Nullable GeneratorStateFile state,
+                      final @Nullable SharedGeneratorState shared,
+                      final long nodeMask,
+                      final long node) {
+        this.timeSource = timeSource;
+        this.strategy = strategy;
+        this.random = random;
+        this.state = state;
+        this.shared = shared;
+        this.nodeMask = nodeMask;
+        this.node = node;
+        if (state != null && state.recoveredMillis() > 0L) {
+            last.set(((state.recoveredMillis() - 1L) << 12) | 0x0FFFL);
+        }
+    }
+
+    /**
+     * Get the clock regression statistics.
+     *
+     * @return The statistics.
+     */
+    ClockRegressionStats stats() {
+        return stats;
+    }
+
+    /**
+     * Get the UUID type.
+     *
+     * @return {@link UUIDType#TIME_BASED_EPOCH}.
+     */
+    @Override
+    public UUIDType getType() {
+        return UUIDType.TIME_BASED_EPOCH;
+    }
+
+    /**
+     * Generate a UUID.
+     *
+     * @return The UUID.
+     * @throws IllegalStateException If the clock moved backwards and the strategy fails on regressions.
+     */
+    @Override
+    public UUID generate() {
+        return new UUID(claim(), 0x8000000000000000L | ((random.current().nextLong() >>> 2) & ~nodeMask) | node);
+    }
+
+    /**
+     * Claim the timestamp and counter of the next identifier, so that no identifier generated later can have the same
+     * or a lower timestamp and counter.
+     *
+     * @return The most significant 64 bits of the identifier.
+     * @throws IllegalStateException If the clock moved backwards and the strategy fails on regressions.
+     */
+    long claim() {
+        final var now = timeSource.currentTimeMillis();
+        final var restart = stats.observe(strategy, lastClockMillis, timeSource, now);
+        final long next;
+        if (shared != null) {
+            next = shared.next(now, random.current());
+        } else {
+            next = advance(now, restart);
+        }
+        return (SharedGeneratorState.millis(next) << 16) | 0x7000L | SharedGeneratorState.counter(next);
+    }
+
+    /**
+     * Advance the timestamp and counter held by this generator.
+     *
+     * @param now     The current time in milliseconds since the Unix epoch.
+     * @param restart Whether to restart from the clock after a regression.
+     * @return The timestamp shifted left by 12 bits and combined with the counter.
+     */
+    private long advance(final long now,
+                         final boolean restart) {
+        var current = last.get();
+        var start = -1L;
+        while (true) {
+            final long next;
+            if (now > current >>> 12 || restart && now < current >>> 12) {
+                if (start < 0L) {
+                    start = random.current().nextInt(0x0800);
+                }
+                next = (now << 12) | start;
+            } else {
+                next = current + 1L;
+            }
+            final var witness = last.compareAndExchange(current, next);
+            if (witness == current) {
+                if (state != null) {
+                    state.reserve(next >>> 12);
+                }
+                return next;
+            }
+            current = witness;
+        }
+    }
+}
@@ -1,6 +1,12 @@
 module buralotech.identifier.core {
     requires com.fasterxml.uuid;
+    requires jdk.jfr;
     requires org.jspecify;
     exports com.buralotech.oss.identifier.api;
+    exports com.buralotech.oss.identifier.collection;
+    exports com.buralotech.oss.identifier.io;
+    exports com.buralotech.oss.identifier.lease;
+    exports com.buralotech.oss.identifier.partition;
+    exports com.buralotech.oss.identifier.sketch;
     exports com.buralotech.oss.identifier.uuid;
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static com.buralotech.oss.identifier.uuid.TestData.at;
+import static com.buralotech.oss.identifier.uuid.TestData.START;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestIdentifierBitmap {
+
+    private final IdentifierService identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+    private final Random random = new Random(42L);
+
+    @Test
+    void emptyBitmap() {
+        final var bitmap = IdentifierBitmap.of(identifierService, List.of());
+        assertThat(bitmap.isEmpty()).isTrue();
+        assertThat(bitmap.size()).isZero();
+        assertThat(bitmap.containers()).isZero();
+        assertThat(bitmap.contains(identifierService.generate())).isFalse();
+        assertThat(bitmap).isEmpty();
+        assertThat(bitmap.and(bitmap)).isEmpty();
+        assertThat(bitmap.or(bitmap)).isEmpty();
+        assertThat(bitmap.andNot(bitmap)).isEmpty();
+    }
+
+    @Test
+    void groupsByTimestamp() {
+        final var identifiers = new ArrayList<Identifier>();
+        for (var i = 0; i < 1000; i++) {
+            identifiers.add(at(identifierService, random, START + i % 10));
+        }
+        identifiers.addAll(identifiers.subList(0, 10));
+        final var bitmap = IdentifierBitmap.of(identifierService, identifiers);
+        final var expected = new TreeSet<>(identifiers);
+        assertThat(bitmap.size()).isEqualTo(expected.size());
+        assertThat(bitmap.containers()).isEqualTo(10);
+        assertThat(bitmap).containsExactlyElementsOf(expected);
+        assertThat(bitmap.stream()).containsExactlyElementsOf(expected);
+        assertThat(expected).allSatisfy(identifier -> assertThat(bitmap.contains(identifier)).isTrue());
+        assertThat(bitmap.contains(at(identifierService, random, START))).isFalse();
+        assertThat(bitmap.contains(at(identifierService, random, START + 10))).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1000, 1000, 100, 50",
+            "10, 10000, 1000, 80",
+            "10000, 10, 1000, 80",
+            "5000, 5000, 20, 1"
+    })
+    void setOperationsMatchTreeSet(final int leftSize,
+                                   final int rightSize,
+                                   final int spread,
+                                   final int sharedPercent) {
+        final var left = new TreeSet<Identifier>();
+        final var right = new TreeSet<Identifier>();
+        for (var i = 0; i < leftSize; i++) {
+            left.add(at(identifierService, random, START + random.nextInt(spread)));
+        }
+        final var shared = new ArrayList<>(left);
+        for (var i = 0; i < rightSize; i++) {
+            if (random.nextInt(100) < sharedPercent && !shared.isEmpty()) {
+                right.add(shared.get(random.nextInt(shared.size())));
+            } else {
+                right.add(at(identifierService, random, START + spread / 2 + random.nextInt(spread)));
+            }
+        }
+        final var leftBitmap = IdentifierBitmap.of(identifierService, left);
+        final var rightBitmap = IdentifierBitmap.of(identifierService, right);
+
+        final var and = new TreeSet<>(left);
+        and.retainAll(right);
+        assertThat(leftBitmap.and(rightBitmap)).containsExactlyElementsOf(and);
+        assertThat(rightBitmap.and(leftBitmap)).containsExactlyElementsOf(and);
+
+        final var or = new TreeSet<>(left);
+        or.addAll(right);
+        assertThat(leftBitmap.or(rightBitmap)).containsExactlyElementsOf(or);
+        assertThat(rightBitmap.or(leftBitmap).size()).isEqualTo(or.size());
+
+        final var andNot = new TreeSet<>(left);
+        andNot.removeAll(right);
+        assertThat(leftBitmap.andNot(rightBitmap)).containsExactlyElementsOf(andNot);
+        assertThat(leftBitmap.andNot(leftBitmap)).isEmpty();
+    }
+}
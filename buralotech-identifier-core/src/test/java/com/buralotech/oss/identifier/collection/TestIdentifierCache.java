@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierCache {
+
+    private static final long START = 1735248085000L;
+
+    private final AtomicLong now = new AtomicLong(START);
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void entriesExpireWithTheirKeys(final String version) {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        final var cache = newCache(identifierService);
+        final var older = identifierService.asLowerBound(Instant.ofEpochMilli(START - 30_000L));
+        final var newer = identifierService.asLowerBound(Instant.ofEpochMilli(START - 5_000L));
+        assertThat(cache.put(older, "older")).isNull();
+        assertThat(cache.put(newer, "newer")).isNull();
+        assertThat(cache.get(older)).isEqualTo("older");
+        assertThat(cache.get(newer)).isEqualTo("newer");
+        now.addAndGet(30_000L);
+        assertThat(cache.get(older)).isNull();
+        assertThat(cache.containsKey(older)).isFalse();
+        assertThat(cache.get(newer)).isEqualTo("newer");
+        now.addAndGet(25_000L);
+        assertThat(cache.get(newer)).isNull();
+    }
+
+    @Test
+    void expiredKeysAreNotStored() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var cache = newCache(identifierService);
+        final var expired = identifierService.asLowerBound(Instant.ofEpochMilli(START - 60_000L));
+        assertThat(cache.put(expired, "expired")).isNull();
+        assertThat(cache.get(expired)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void expiredSegmentsAreEvictedWholesale() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var cache = newCache(identifierService);
+        for (var i = 0; i < 40; i++) {
+            cache.put(identifierService.asLowerBound(Instant.ofEpochMilli(START - i * 1_000L)), i);
+        }
+        assertThat(cache.size()).isEqualTo(40);
+        now.addAndGet(20_000L);
+        assertThat(cache.evictExpired()).isEqualTo(19);
+        assertThat(cache.size()).isEqualTo(21);
+        assertThat(cache.get(identifierService.asLowerBound(Instant.ofEpochMilli(START - 20_000L)))).isNull();
+        assertThat(cache.evictExpired()).isZero();
+        now.addAndGet(60_000L);
+        cache.put(identifierService.asLowerBound(Instant.ofEpochMilli(now.get())), -1);
+        assertThat(cache.size()).isOne();
+    }
+
+    @Test
+    void putReplacesAndRemoveDeletes() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var cache = newCache(identifierService);
+        final var key = identifierService.asLowerBound(Instant.ofEpochMilli(START));
+        assertThat(cache.put(key, "first")).isNull();
+        assertThat(cache.put(key, "second")).isEqualTo("first");
+        assertThat(cache.remove(key)).isEqualTo("second");
+        assertThat(cache.remove(key)).isNull();
+        cache.put(key, "third");
+        cache.clear();
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void rejectInvalidDurations() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        assertThatThrownBy(() -> new IdentifierCache<>(identifierService, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private IdentifierCache<Object> newCache(final IdentifierService identifierService) {
+        return new IdentifierCache<>(identifierService, Duration.ofSeconds(40L), Duration.ofSeconds(5L), () -> Instant.ofEpochMilli(now.get()));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static com.buralotech.oss.identifier.uuid.TestData.at;
+import static com.buralotech.oss.identifier.uuid.TestData.START;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierIndex {
+
+    private final IdentifierService identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+    private final Random random = new Random(42L);
+
+    @Test
+    void emptyIndex() {
+        final var index = IdentifierIndex.of(identifierService, List.of());
+        final var probe = identifierService.generate();
+        assertThat(index.isEmpty()).isTrue();
+        assertThat(index.size()).isZero();
+        assertThat(index.rank(probe)).isZero();
+        assertThat(index.contains(probe)).isFalse();
+        assertThat(index.floor(probe)).isNull();
+        assertThat(index.ceiling(probe)).isNull();
+        assertThat(index).isEmpty();
+    }
+
+    @Test
+    void duplicatesAreRemovedAndOrderIsAscending() {
+        final var identifiers = identifierService.generateList(100);
+        final var duplicated = new ArrayList<>(identifiers);
+        duplicated.addAll(identifiers.subList(0, 10));
+        final var index = IdentifierIndex.of(identifierService, duplicated);
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index).containsExactlyElementsOf(new TreeSet<>(identifiers));
+        assertThat(index.stream()).containsExactlyElementsOf(new TreeSet<>(identifiers));
+        assertThatThrownBy(() -> index.get(100)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void queriesMatchTreeSet() {
+        final var expected = new TreeSet<Identifier>();
+        for (var i = 0; i < 1000; i++) {
+            expected.add(at(identifierService, random, START + random.nextInt(100_000)));
+        }
+        final var index = IdentifierIndex.of(identifierService, expected);
+        for (final var identifier : expected) {
+            assertThat(index.contains(identifier)).isTrue();
+            assertThat(index.get(index.rank(identifier))).isEqualTo(identifier);
+        }
+        for (var i = 0; i < 1000; i++) {
+            final var probe = at(identifierService, random, START - 1_000L + random.nextInt(102_000));
+            assertThat(index.contains(probe)).isEqualTo(expected.contains(probe));
+            assertThat(index.rank(probe)).isEqualTo(expected.headSet(probe).size());
+            assertThat(index.floor(probe)).isEqualTo(expected.floor(probe));
+            assertThat(index.ceiling(probe)).isEqualTo(expected.ceiling(probe));
+        }
+    }
+
+    @Test
+    void rangeSelectsTimeWindow() {
+        final var expected = new TreeSet<Identifier>();
+        for (var i = 0; i < 1000; i++) {
+            expected.add(at(identifierService, random, START + random.nextInt(100_000)));
+        }
+        final var index = IdentifierIndex.of(identifierService, expected);
+        final var from = Instant.ofEpochMilli(START + 25_000L);
+        final var to = Instant.ofEpochMilli(START + 50_000L);
+        final var range = index.range(from, to);
+        assertThat(range).containsExactlyElementsOf(expected.subSet(identifierService.asLowerBound(from), true, identifierService.asUpperBound(to), true));
+        assertThat(range).allSatisfy(identifier -> assertThat(identifierService.toInstant(identifier)).isBetween(from, to));
+        assertThat(range.range(to, from)).isEmpty();
+        assertThat(index.range(Instant.ofEpochMilli(START + 200_000L), Instant.ofEpochMilli(START + 300_000L))).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static com.buralotech.oss.identifier.uuid.TestData.at;
+import static com.buralotech.oss.identifier.uuid.TestData.START;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierMerge {
+
+    private final IdentifierService identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+    private final Random random = new Random(42L);
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 7, 16, 33})
+    void mergeIterators(final int k) {
+        final var shared = sortedRun(20);
+        final var runs = new ArrayList<List<Identifier>>();
+        final var all = new ArrayList<Identifier>();
+        for (var i = 0; i < k; i++) {
+            final var run = new TreeSet<>(sortedRun(random.nextInt(50)));
+            run.addAll(shared.subList(0, random.nextInt(shared.size())));
+            runs.add(new ArrayList<>(run));
+            all.addAll(run);
+        }
+        all.sort(null);
+        assertThat(drain(IdentifierMerge.merge(iterators(runs)))).containsExactlyElementsOf(all);
+        assertThat(drain(IdentifierMerge.mergeDistinct(iterators(runs)))).containsExactlyElementsOf(new TreeSet<>(all));
+        final var packed = runs.stream().map(TestIdentifierMerge::pack).toArray(long[][]::new);
+        assertThat(IdentifierMerge.merge(packed)).containsExactly(pack(all));
+        assertThat(IdentifierMerge.mergeDistinct(packed)).containsExactly(pack(new ArrayList<>(new TreeSet<>(all))));
+    }
+
+    @Test
+    void mergeIsStable() {
+        final var identifier = identifierService.generate();
+        final var first = identifierService.fromBinary(identifier.binary().clone());
+        final var second = identifierService.fromBinary(identifier.binary().clone());
+        final var merged = IdentifierMerge.merge(List.of(List.of(first).iterator(), List.of(second).iterator()));
+        assertThat(merged.next()).isSameAs(first);
+        assertThat(merged.next()).isSameAs(second);
+        assertThat(merged.hasNext()).isFalse();
+        assertThatThrownBy(merged::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void rejectOddPackedLength() {
+        assertThatThrownBy(() -> IdentifierMerge.merge(new long[3])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Identifier> sortedRun(final int size) {
+        final var run = new TreeSet<Identifier>();
+        while (run.size() < size) {
+            run.add(at(identifierService, random, START + random.nextInt(1_000)));
+        }
+        return new ArrayList<>(run);
+    }
+
+    private static List<Iterator<Identifier>> iterators(final List<List<Identifier>> runs) {
+        return runs.stream().map(List::iterator).toList();
+    }
+
+    private static List<Identifier> drain(final Iterator<Identifier> iterator) {
+        final var result = new ArrayList<Identifier>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static long[] pack(final List<Identifier> identifiers) {
+        final var packed = new long[identifiers.size() * 2];
+        for (var i = 0; i < identifiers.size(); i++) {
+            packed[i * 2] = identifiers.get(i).mostSignificantBits();
+            packed[i * 2 + 1] = identifiers.get(i).leastSignificantBits();
+        }
+        return packed;
+    }
+}
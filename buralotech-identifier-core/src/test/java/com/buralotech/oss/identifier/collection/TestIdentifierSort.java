@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.collection;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static com.buralotech.oss.identifier.uuid.TestData.at;
+import static com.buralotech.oss.identifier.uuid.TestData.START;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierSort {
+
+    private final IdentifierService identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+    private final Random random = new Random(42L);
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 1000, 0",
+            "1, 1000, 0",
+            "40, 1000, 0",
+            "5000, 1000, 0",
+            "5000, 1, 0",
+            "5000, 100000, 10",
+            "50000, 100000, 0",
+            "50000, 1000, 1",
+            "50000, 1000, 20"
+    })
+    void sortMatchesArraysSort(final int size,
+                               final int spread,
+                               final int runs) {
+        final var identifiers = identifiers(size, spread, runs);
+        final var expected = identifiers.clone();
+        Arrays.sort(expected);
+
+        final var sorted = identifiers.clone();
+        IdentifierSort.sort(sorted);
+        assertThat(sorted).containsExactly(expected);
+
+        final var parallelSorted = identifiers.clone();
+        IdentifierSort.parallelSort(parallelSorted);
+        assertThat(parallelSorted).containsExactly(expected);
+
+        final var packed = pack(identifiers);
+        IdentifierSort.sort(packed);
+        assertThat(packed).containsExactly(pack(expected));
+
+        final var parallelPacked = pack(identifiers);
+        IdentifierSort.parallelSort(parallelPacked);
+        assertThat(parallelPacked).containsExactly(pack(expected));
+    }
+
+    @Test
+    void sortIsStable() {
+        final var identifiers = new Identifier[1000];
+        for (var i = 0; i < identifiers.length; i++) {
+            final var identifier = at(identifierService, random, START + random.nextInt(10));
+            identifiers[i] = random.nextBoolean() ? identifier : identifierService.fromBits(identifier.mostSignificantBits(), identifier.leastSignificantBits());
+        }
+        final var duplicated = new Identifier[identifiers.length * 3];
+        for (var i = 0; i < duplicated.length; i++) {
+            duplicated[i] = identifierService.fromBits(identifiers[i % identifiers.length].mostSignificantBits(), identifiers[i % identifiers.length].leastSignificantBits());
+        }
+        final var expected = duplicated.clone();
+        Arrays.sort(expected);
+        IdentifierSort.sort(duplicated);
+        for (var i = 0; i < duplicated.length; i++) {
+            assertThat(duplicated[i]).isSameAs(expected[i]);
+        }
+    }
+
+    @Test
+    void sortUnsignedBits() {
+        final var packed = new long[]{-1L, 0L, 0L, -1L, 0L, 0L, Long.MIN_VALUE, 1L, 0x7FFFFFFFFFFFFFFFL, -1L};
+        IdentifierSort.sort(packed);
+        assertThat(packed).containsExactly(0L, 0L, 0L, -1L, 0x7FFFFFFFFFFFFFFFL, -1L, Long.MIN_VALUE, 1L, -1L, 0L);
+    }
+
+    @Test
+    void rejectOddLength() {
+        assertThatThrownBy(() -> IdentifierSort.sort(new long[3])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierSort.parallelSort(new long[1])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Identifier[] identifiers(final int size,
+                                     final int spread,
+                                     final int runs) {
+        final var identifiers = new ArrayList<Identifier>(size);
+        for (var i = 0; i < size; i++) {
+            identifiers.add(at(identifierService, random, START + random.nextInt(spread)));
+        }
+        if (runs > 0) {
+            Collections.sort(identifiers);
+            final var chunks = new ArrayList<List<Identifier>>();
+            for (var i = 0; i < runs; i++) {
+                chunks.add(identifiers.subList(size * i / runs, size * (i + 1) / runs));
+            }
+            Collections.shuffle(chunks, random);
+            final var result = new ArrayList<Identifier>(size);
+            chunks.forEach(result::addAll);
+            return result.toArray(new Identifier[0]);
+        }
+        return identifiers.toArray(new Identifier[0]);
+    }
+
+    private static long[] pack(final Identifier[] identifiers) {
+        final var packed = new long[identifiers.length << 1];
+        for (var i = 0; i < identifiers.length; i++) {
+            packed[i << 1] = identifiers[i].mostSignificantBits();
+            packed[(i << 1) + 1] = identifiers[i].leastSignificantBits();
+        }
+        return packed;
+    }
+}
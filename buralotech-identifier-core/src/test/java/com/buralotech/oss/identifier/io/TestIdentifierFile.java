@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static com.buralotech.oss.identifier.uuid.TestData.at;
+import static com.buralotech.oss.identifier.uuid.TestData.START;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierFile {
+
+    private final IdentifierService identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+    private final Random random = new Random(42L);
+
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, IdentifierFileWriter.DEFAULT_INDEX_INTERVAL})
+    void readWhatWasWritten(final int indexInterval) throws IOException {
+        final var expected = new TreeSet<Identifier>();
+        for (var i = 0; i < 5000; i++) {
+            expected.add(at(identifierService, random, START + random.nextInt(100_000)));
+        }
+        final var path = directory.resolve("ids.bin");
+        try (var writer = new IdentifierFileWriter(path, indexInterval)) {
+            for (final var identifier : expected) {
+                writer.write(identifier);
+            }
+            assertThat(writer.count()).isEqualTo(expected.size());
+        }
+        try (var reader = new IdentifierFileReader(identifierService, path)) {
+            assertThat(reader.size()).isEqualTo(expected.size());
+            assertThat(reader).containsExactlyElementsOf(expected);
+            for (final var identifier : expected) {
+                assertThat(reader.contains(identifier)).isTrue();
+            }
+            for (var i = 0; i < 1000; i++) {
+                final var probe = at(identifierService, random, START - 1_000L + random.nextInt(102_000));
+                assertThat(reader.contains(probe)).isEqualTo(expected.contains(probe));
+            }
+            final var from = Instant.ofEpochMilli(START + 25_000L);
+            final var to = Instant.ofEpochMilli(START + 50_000L);
+            assertThat(reader.range(from, to))
+                    .containsExactlyElementsOf(expected.subSet(identifierService.asLowerBound(from), true, identifierService.asUpperBound(to), true));
+            assertThat(reader.range(to, from)).isEmpty();
+        }
+    }
+
+    @Test
+    void readEmptyFile() throws IOException {
+        final var path = directory.resolve("empty.bin");
+        new IdentifierFileWriter(path).close();
+        try (var reader = new IdentifierFileReader(identifierService, path)) {
+            assertThat(reader.size()).isZero();
+            assertThat(reader.contains(identifierService.generate())).isFalse();
+            assertThat(reader).isEmpty();
+        }
+    }
+
+    @Test
+    void rejectUnorderedWrites() throws IOException {
+        final var first = at(identifierService, random, START + 1L);
+        final var second = at(identifierService, random, START);
+        try (var writer = new IdentifierFileWriter(directory.resolve("unordered.bin"))) {
+            writer.write(first);
+            assertThatThrownBy(() -> writer.write(second)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> writer.write(first)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectInvalidFile() throws IOException {
+        final var path = directory.resolve("invalid.bin");
+        Files.write(path, new byte[128]);
+        assertThatThrownBy(() -> new IdentifierFileReader(identifierService, path)).isInstanceOf(IOException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, 3L, 0x1000000000000001L, Long.MAX_VALUE})
+    void rejectCountBeyondFile(final long count) throws IOException {
+        final var path = directory.resolve("count.bin");
+        try (var writer = new IdentifierFileWriter(path)) {
+            writer.write(identifierService.generate());
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, count), IdentifierFileFormat.COUNT_OFFSET);
+        }
+        assertThatThrownBy(() -> new IdentifierFileReader(identifierService, path)).isInstanceOf(IOException.class);
+    }
+}
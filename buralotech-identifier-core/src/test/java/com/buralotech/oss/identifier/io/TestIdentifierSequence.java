@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.io;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static com.buralotech.oss.identifier.uuid.TestData.at;
+import static com.buralotech.oss.identifier.uuid.TestData.START;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierSequence {
+
+    private final Random random = new Random(42L);
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V4, UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void decodeWhatWasEncoded(final String version) throws IOException {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        final var expected = new TreeSet<>(identifierService.generateList(5000));
+        final var encoded = encode(expected, 100);
+        final var reader = new IdentifierSequenceReader(identifierService, ByteBuffer.wrap(encoded));
+        assertThat(reader.size()).isEqualTo(expected.size());
+        assertThat(reader).containsExactlyElementsOf(expected);
+        assertThat(reader.stream()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void seekToIdentifier() throws IOException {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var expected = new TreeSet<Identifier>();
+        for (var i = 0; i < 5000; i++) {
+            expected.add(at(identifierService, random, START + random.nextInt(100_000)));
+        }
+        final var reader = new IdentifierSequenceReader(identifierService, ByteBuffer.wrap(encode(expected, 64)));
+        for (var i = 0; i < 100; i++) {
+            final var probe = at(identifierService, random, START - 1_000L + random.nextInt(102_000));
+            final var actual = new ArrayList<Identifier>();
+            reader.iterator(probe).forEachRemaining(actual::add);
+            assertThat(actual).containsExactlyElementsOf(expected.tailSet(probe, true));
+        }
+        final var first = expected.first();
+        assertThat(reader.iterator(first).next()).isEqualTo(first);
+    }
+
+    @Test
+    void compressTimeBasedIdentifiers() throws IOException {
+        final var v6 = UUIDIdentifierService.forVersion(UUIDIdentifierService.V6);
+        final var v6Ids = new TreeSet<>(v6.generateList(10_000));
+        assertThat(encode(v6Ids, IdentifierSequenceWriter.DEFAULT_BLOCK_SIZE).length).isLessThan(v6Ids.size() * 16 / 2);
+        final var v7 = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var v7Ids = new TreeSet<Identifier>();
+        for (var i = 0; i < 10_000; i++) {
+            v7Ids.add(at(v7, random, START + i * 7L));
+        }
+        assertThat(encode(v7Ids, IdentifierSequenceWriter.DEFAULT_BLOCK_SIZE).length).isLessThan(v7Ids.size() * 11);
+    }
+
+    @Test
+    void mixedVersionsStartNewBlocks() throws IOException {
+        final var expected = new TreeSet<Identifier>(UUIDIdentifierService.forVersion(UUIDIdentifierService.V6).generateList(10));
+        expected.addAll(UUIDIdentifierService.forVersion(UUIDIdentifierService.V7).generateList(10));
+        final var reader = new IdentifierSequenceReader(new AnyVersionIdentifierService(), ByteBuffer.wrap(encode(expected, 100)));
+        assertThat(reader).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void rejectUnorderedWrites() throws IOException {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var first = at(identifierService, random, START + 1L);
+        final var second = at(identifierService, random, START);
+        try (var writer = new IdentifierSequenceWriter(new ByteArrayOutputStream())) {
+            writer.write(first);
+            assertThatThrownBy(() -> writer.write(second)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectInvalidSequence() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        assertThatThrownBy(() -> new IdentifierSequenceReader(identifierService, ByteBuffer.allocate(64)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] encode(final Collection<Identifier> identifiers,
+                                 final int blockSize) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var writer = new IdentifierSequenceWriter(bytes, blockSize)) {
+            for (final var identifier : identifiers) {
+                writer.write(identifier);
+            }
+            assertThat(writer.count()).isEqualTo(identifiers.size());
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes Type 6 and Type 7 identifiers so that a sequence mixing versions can be verified.
+     */
+    private static final class AnyVersionIdentifierService implements IdentifierService {
+
+        private final IdentifierService v6 = UUIDIdentifierService.forVersion(UUIDIdentifierService.V6);
+
+        private final IdentifierService v7 = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+        @Override
+        public Identifier fromBits(final long msb, final long lsb) {
+            return ((msb >>> 12) & 0x0F) == 6 ? v6.fromBits(msb, lsb) : v7.fromBits(msb, lsb);
+        }
+
+        @Override
+        public Identifier generate() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Identifier fromText(final String text) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Identifier fromBinary(final byte[] binary) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Identifier fromBinary(final byte[] binary, final int offset) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Identifier fromByteBuffer(final ByteBuffer buffer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Identifier fromUUID(final String uuid) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Identifier fromUUID(final UUID uuid) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant toInstant(final Identifier identifier) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Identifier asLowerBound(final Temporal time) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Identifier asUpperBound(final Temporal time) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
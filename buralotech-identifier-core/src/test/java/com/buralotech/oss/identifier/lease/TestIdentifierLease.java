@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.lease;
+
+import com.buralotech.oss.identifier.api.ForwardingIdentifierService;
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierLease {
+
+    private final IdentifierService identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @CsvSource({
+            "64, 1",
+            "64, 7",
+            "64, 100",
+            "1, 3",
+            "1000, 1000"
+    })
+    void leasesAreOrderedAcrossClients(final int blockSize,
+                                       final int leaseSize) throws IOException {
+        try (var server = IdentifierLeaseServer.start(identifierService, directory.resolve("lease.sock"), blockSize, 4);
+             var first = IdentifierLeaseClient.connect(identifierService, server.socket(), leaseSize);
+             var second = IdentifierLeaseClient.connect(identifierService, server.socket(), leaseSize)) {
+            final var all = new HashSet<Identifier>();
+            for (final var client : List.of(first, second)) {
+                final var identifiers = new ArrayList<Identifier>();
+                for (var i = 0; i < leaseSize * 3 + 1; i++) {
+                    identifiers.add(client.generate());
+                }
+                assertThat(identifiers).isSorted().doesNotHaveDuplicates();
+                assertThat(identifiers).allSatisfy(identifier -> assertThat(client.toInstant(identifier)).isNotNull());
+                all.addAll(identifiers);
+            }
+            assertThat(all).hasSize((leaseSize * 3 + 1) * 2);
+        }
+    }
+
+    @Test
+    void leasesFromManyThreadsAreUnique() throws Exception {
+        try (var server = IdentifierLeaseServer.start(identifierService, directory.resolve("lease.sock"), 256, 2);
+             var client = IdentifierLeaseClient.connect(identifierService, server.socket(), 100)) {
+            final var threads = new ArrayList<Thread>();
+            final var lists = new ArrayList<List<Identifier>>();
+            for (var t = 0; t < 4; t++) {
+                final var list = new ArrayList<Identifier>();
+                lists.add(list);
+                threads.add(Thread.ofVirtual().start(() -> {
+                    for (var i = 0; i < 5000; i++) {
+                        list.add(client.generate());
+                    }
+                }));
+            }
+            for (final var thread : threads) {
+                thread.join();
+            }
+            final var all = new HashSet<Identifier>();
+            for (final var list : lists) {
+                assertThat(list).isSorted();
+                all.addAll(list);
+            }
+            assertThat(all).hasSize(20_000);
+        }
+    }
+
+    @Test
+    void forwardsOtherOperations() throws IOException {
+        try (var server = IdentifierLeaseServer.start(identifierService, directory.resolve("lease.sock"), 16, 1);
+             var client = IdentifierLeaseClient.connect(identifierService, server.socket(), 16)) {
+            final var identifier = client.generate();
+            assertThat(client.fromText(identifier.text())).isEqualTo(identifier);
+            assertThat(client.fromBinary(identifier.binary())).isEqualTo(identifier);
+            assertThat(client.generateList(40)).hasSize(40).isSorted();
+        }
+    }
+
+    @Test
+    void leasesFailAfterGenerationFails() throws IOException {
+        final var failing = new FailingIdentifierService(identifierService, 40);
+        try (var server = IdentifierLeaseServer.start(failing, directory.resolve("lease.sock"), 16, 1);
+             var client = IdentifierLeaseClient.connect(identifierService, server.socket(), 16)) {
+            final var identifiers = new ArrayList<Identifier>();
+            assertThatThrownBy(() -> {
+                while (true) {
+                    identifiers.add(client.generate());
+                }
+            }).isInstanceOf(UncheckedIOException.class);
+            assertThat(identifiers).hasSize(32).isSorted();
+            assertThatThrownBy(() -> IdentifierLeaseClient.connect(identifierService, server.socket(), 16)).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void closeRemovesSocket() throws IOException {
+        final var socket = directory.resolve("lease.sock");
+        final var server = IdentifierLeaseServer.start(identifierService, socket, 16, 1);
+        assertThat(Files.exists(socket)).isTrue();
+        server.close();
+        assertThat(Files.exists(socket)).isFalse();
+        assertThatThrownBy(() -> IdentifierLeaseClient.connect(identifierService, socket, 16)).isInstanceOf(IOException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, IdentifierLeaseServer.MAX_LEASE_SIZE + 1})
+    void rejectInvalidSizes(final int size) {
+        final var socket = directory.resolve("lease.sock");
+        assertThatThrownBy(() -> IdentifierLeaseServer.start(identifierService, socket, size, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierLeaseClient.connect(identifierService, socket, size)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void rejectInvalidBlocksAhead(final int blocksAhead) {
+        final var socket = directory.resolve("lease.sock");
+        assertThatThrownBy(() -> IdentifierLeaseServer.start(identifierService, socket, 16, blocksAhead)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(Files.exists(socket)).isFalse();
+    }
+
+    /**
+     * Generates a number of identifiers and then throws, as a generator that fails fast on a clock regression does.
+     */
+    private static final class FailingIdentifierService extends ForwardingIdentifierService {
+
+        private final AtomicInteger remaining;
+
+        FailingIdentifierService(final IdentifierService identifierService,
+                                 final int count) {
+            super(identifierService);
+            this.remaining = new AtomicInteger(count);
+        }
+
+        @Override
+        public Identifier generate() {
+            if (remaining.getAndDecrement() <= 0) {
+                throw new IllegalStateException("clock moved backwards");
+            }
+            return super.generate();
+        }
+    }
+}
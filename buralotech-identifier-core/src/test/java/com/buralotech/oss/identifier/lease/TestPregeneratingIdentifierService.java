@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.lease;
+
+import com.buralotech.oss.identifier.api.ForwardingIdentifierService;
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestPregeneratingIdentifierService {
+
+    private final IdentifierService identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+    @Test
+    void refillsAtLowWatermark() throws InterruptedException {
+        final var gate = new Semaphore(1024);
+        try (var service = PregeneratingIdentifierService.start(new GatedIdentifierService(identifierService, gate), 1000, 100)) {
+            try {
+                final var stats = service.stats();
+                assertThat(stats.capacity()).isEqualTo(1024);
+                assertThat(stats.lowWatermark()).isEqualTo(100);
+                awaitUntil(() -> stats.available() == 1024);
+                assertThat(stats.refills()).isEqualTo(1);
+                assertThat(stats.produced()).isEqualTo(1024);
+                final var identifiers = new ArrayList<Identifier>();
+                for (var i = 0; i < 950; i++) {
+                    identifiers.add(service.generate());
+                }
+                assertThat(identifiers).isSorted().doesNotHaveDuplicates();
+                assertThat(stats.hits()).isEqualTo(950);
+                assertThat(stats.misses()).isZero();
+                assertThat(stats.hitRatio()).isEqualTo(1.0);
+                assertThat(stats.minAvailable()).isEqualTo(74);
+                awaitUntil(gate::hasQueuedThreads);
+                assertThat(stats.refills()).isEqualTo(2);
+                assertThat(stats.produced()).isEqualTo(1024);
+                gate.release(10);
+                awaitUntil(() -> stats.produced() == 1034);
+                assertThat(stats.available()).isEqualTo(84);
+                gate.release(940);
+                awaitUntil(() -> stats.available() == 1024);
+                assertThat(stats.refills()).isEqualTo(2);
+                assertThat(stats.produced()).isEqualTo(1974);
+                assertThat(stats.refillRate()).isPositive();
+            } finally {
+                gate.release(1 << 20);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 0",
+            "16, 4",
+            "4096, 1024"
+    })
+    void uniqueAcrossThreads(final int capacity,
+                             final int lowWatermark) throws InterruptedException {
+        try (var service = PregeneratingIdentifierService.start(identifierService, capacity, lowWatermark)) {
+            final var threads = new ArrayList<Thread>();
+            final var lists = new ArrayList<List<Identifier>>();
+            for (var t = 0; t < 8; t++) {
+                final var list = new ArrayList<Identifier>();
+                lists.add(list);
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (var i = 0; i < 10_000; i++) {
+                        list.add(service.generate());
+                    }
+                }));
+            }
+            for (final var thread : threads) {
+                thread.join();
+            }
+            final var all = new HashSet<Identifier>();
+            lists.forEach(all::addAll);
+            assertThat(all).hasSize(80_000);
+            assertThat(service.stats().hits() + service.stats().misses()).isEqualTo(80_000);
+        }
+    }
+
+    @Test
+    void fallsBackToInlineGenerationWhenClosed() {
+        final var service = PregeneratingIdentifierService.start(identifierService, 8, 2);
+        service.close();
+        final var identifiers = service.generateList(20);
+        assertThat(new HashSet<>(identifiers)).hasSize(20);
+        assertThat(service.stats().misses()).isGreaterThanOrEqualTo(12);
+        assertThat(service.fromText(identifiers.getFirst().text())).isEqualTo(identifiers.getFirst());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0",
+            "-1, 0",
+            "1073741825, 0",
+            "16, -1",
+            "16, 16"
+    })
+    void rejectInvalidConfiguration(final int capacity,
+                                    final int lowWatermark) {
+        assertThatThrownBy(() -> PregeneratingIdentifierService.start(identifierService, capacity, lowWatermark))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final var deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1L);
+        }
+    }
+
+    /**
+     * Lets the background thread generate only as many identifiers as the test has released from a semaphore.
+     */
+    private static final class GatedIdentifierService extends ForwardingIdentifierService {
+
+        private final Semaphore gate;
+
+        GatedIdentifierService(final IdentifierService identifierService,
+                               final Semaphore gate) {
+            super(identifierService);
+            this.gate = gate;
+        }
+
+        @Override
+        public Identifier generate() {
+            gate.acquireUninterruptibly();
+            return super.generate();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.partition;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierRange {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final Instant END = Instant.parse("2025-01-01T23:59:59.999Z");
+
+    private final Random random = new Random(42L);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 32})
+    void splitEvenlyByTime(final int n) {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var range = IdentifierRange.of(identifierService, START, END);
+        final var parts = range.split(n);
+        assertThat(parts).hasSize(n);
+        assertContiguous(identifierService, range, parts);
+        final var expected = (END.toEpochMilli() + 1L - START.toEpochMilli()) / n;
+        for (final var part : parts) {
+            final var width = identifierService.toEpochMilli(part.upperBound()) + 1L - identifierService.toEpochMilli(part.lowerBound());
+            assertThat(width).isBetween(expected - 1L, expected + 1L);
+        }
+        for (var i = 0; i < 1_000; i++) {
+            final var identifier = identifierService.asLowerBound(START.plusMillis(random.nextLong(86_400_000L)));
+            assertThat(parts.stream().filter(part -> part.contains(identifier))).hasSize(1);
+        }
+    }
+
+    @Test
+    void splitByDensity() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V6);
+        final var range = IdentifierRange.of(identifierService, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1));
+        final var density = new long[24];
+        density[9] = 100L;
+        density[10] = 100L;
+        density[11] = 200L;
+        final var parts = range.split(4, density);
+        assertThat(parts).hasSize(4);
+        assertContiguous(identifierService, range, parts);
+        assertThat(identifierService.toInstant(parts.get(0).upperBound())).isEqualTo(Instant.parse("2025-01-01T09:59:59.999Z"));
+        assertThat(identifierService.toInstant(parts.get(1).upperBound())).isEqualTo(Instant.parse("2025-01-01T10:59:59.999Z"));
+        assertThat(identifierService.toInstant(parts.get(2).upperBound())).isEqualTo(Instant.parse("2025-01-01T11:29:59.999Z"));
+        assertThat(range.split(4, new long[3])).hasSize(4);
+    }
+
+    @Test
+    void splitNarrowAndEmptyRanges() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var narrow = IdentifierRange.of(identifierService, START, START.plusMillis(2));
+        final var parts = narrow.split(10);
+        assertThat(parts).hasSize(3);
+        assertContiguous(identifierService, narrow, parts);
+        final var empty = IdentifierRange.of(identifierService, END, START);
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.split(4)).isEmpty();
+    }
+
+    @Test
+    void containsAndIntersects() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var morning = IdentifierRange.of(identifierService, START, START.plusSeconds(43_199));
+        final var noon = IdentifierRange.of(identifierService, START.plusSeconds(43_199), START.plusSeconds(43_201));
+        final var afternoon = IdentifierRange.of(identifierService, START.plusSeconds(43_200), END);
+        assertThat(morning.intersects(noon)).isTrue();
+        assertThat(noon.intersects(afternoon)).isTrue();
+        assertThat(morning.intersects(afternoon)).isFalse();
+        assertThat(morning.intersects(IdentifierRange.of(identifierService, END, START))).isFalse();
+        assertThat(morning.contains(identifierService.asLowerBound(START))).isTrue();
+        assertThat(morning.contains(identifierService.asLowerBound(END))).isFalse();
+        assertThat(morning).isEqualTo(IdentifierRange.of(identifierService, START, START.plusSeconds(43_199)))
+                .hasSameHashCodeAs(IdentifierRange.of(identifierService, START, START.plusSeconds(43_199)))
+                .isNotEqualTo(noon);
+    }
+
+    @Test
+    void rejectInvalidArguments() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var range = IdentifierRange.of(identifierService, START, END);
+        assertThatThrownBy(() -> range.split(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> range.split(2, new long[0])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> range.split(2, new long[]{1L, -1L})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void splitCoversBoundaryMilliseconds() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var range = IdentifierRange.of(identifierService, START, END);
+        final var parts = range.split(7);
+        for (var i = 1; i < parts.size(); i++) {
+            final var boundary = identifierService.toEpochMilli(parts.get(i).lowerBound());
+            final var probes = List.of(
+                    identifierService.fromBits(((boundary - 1L) << 16) | 0x7FFFL, 0xB123456789ABCDEFL),
+                    identifierService.fromBits(((boundary - 1L) << 16) | 0x7FFFL, 0xBFFFFFFFFFFFFFFFL),
+                    identifierService.fromBits((boundary << 16) | 0x7000L, 0x8000000000000000L));
+            for (final var probe : probes) {
+                assertThat(parts.stream().filter(part -> part.contains(probe))).hasSize(1);
+            }
+        }
+    }
+
+    private static void assertContiguous(final IdentifierService identifierService,
+                                         final IdentifierRange range,
+                                         final List<IdentifierRange> parts) {
+        assertThat(parts.getFirst().lowerBound()).isEqualTo(range.lowerBound());
+        assertThat(parts.getLast().upperBound()).isEqualTo(range.upperBound());
+        for (var i = 1; i < parts.size(); i++) {
+            final Identifier previous = parts.get(i - 1).upperBound();
+            final Identifier next = parts.get(i).lowerBound();
+            assertThat(previous).isLessThan(next);
+            assertThat(identifierService.predecessor(next)).isEqualTo(previous);
+            assertThat(parts.get(i).isEmpty()).isFalse();
+            assertThat(parts.get(i - 1).intersects(parts.get(i))).isFalse();
+        }
+    }
+}
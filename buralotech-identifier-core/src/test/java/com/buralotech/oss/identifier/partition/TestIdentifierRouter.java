@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.partition;
+
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierRouter {
+
+    private static final int COUNT = 100_000;
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V4, UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void jumpSpreadsEvenlyAndMovesOnlyToNewPartition(final String version) {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        final var before = IdentifierRouter.jump(10);
+        final var after = IdentifierRouter.jump(11);
+        final var counts = new int[11];
+        var moved = 0;
+        for (final var identifier : identifierService.generateList(COUNT)) {
+            final var partition = after.route(identifier);
+            counts[partition]++;
+            if (partition != before.route(identifier)) {
+                assertThat(partition).isEqualTo(10);
+                moved++;
+            }
+        }
+        for (final var count : counts) {
+            assertThat(count).isBetween(COUNT / 11 * 9 / 10, COUNT / 11 * 11 / 10);
+        }
+        assertThat(moved).isEqualTo(counts[10]);
+    }
+
+    @Test
+    void weightedRingHonoursWeightsAndMovesOnlyToNewShard() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var before = IdentifierRouter.weighted(1, 2, 0, 1);
+        final var after = IdentifierRouter.weighted(1, 2, 1, 1);
+        final var counts = new int[4];
+        for (final var identifier : identifierService.generateList(COUNT)) {
+            final var shard = before.route(identifier);
+            counts[shard]++;
+            final var moved = after.route(identifier);
+            assertThat(moved).isIn(shard, 2);
+        }
+        assertThat(counts[0]).isBetween(COUNT / 4 * 8 / 10, COUNT / 4 * 12 / 10);
+        assertThat(counts[1]).isBetween(COUNT / 2 * 8 / 10, COUNT / 2 * 12 / 10);
+        assertThat(counts[2]).isZero();
+        assertThat(counts[3]).isBetween(COUNT / 4 * 8 / 10, COUNT / 4 * 12 / 10);
+    }
+
+    @Test
+    void routeBinaryRepresentations() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var router = IdentifierRouter.jump(64);
+        final var binary = new byte[20];
+        for (final var identifier : identifierService.generateList(1_000)) {
+            System.arraycopy(identifier.binary(), 0, binary, 4, 16);
+            final var expected = router.route(identifier);
+            assertThat(router.route(binary, 4)).isEqualTo(expected);
+            assertThat(router.route(ByteBuffer.wrap(binary).position(4))).isEqualTo(expected);
+            assertThat(router.route(ByteBuffer.wrap(binary).position(4).order(ByteOrder.LITTLE_ENDIAN))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void rejectInvalidArguments() {
+        assertThatThrownBy(() -> IdentifierRouter.jump(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierRouter.weighted()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierRouter.weighted(0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierRouter.weighted(1, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierRouter.weighted(Integer.MAX_VALUE)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
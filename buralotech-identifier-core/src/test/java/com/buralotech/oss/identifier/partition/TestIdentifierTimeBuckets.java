@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.partition;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.buralotech.oss.identifier.uuid.TestData.START;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierTimeBuckets {
+
+    private final Random random = new Random(42L);
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void bucketMatchesTruncatedInstant(final String version) {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        final var hours = new IdentifierTimeBuckets(identifierService, ChronoUnit.HOURS);
+        final var identifiers = new ArrayList<Identifier>();
+        for (var i = 0; i < 1_000; i++) {
+            final var time = Instant.ofEpochMilli(START + random.nextLong(Duration.ofDays(3).toMillis()));
+            identifiers.add(identifierService.asLowerBound(time));
+            identifiers.add(identifierService.asUpperBound(time));
+        }
+        final var packed = new long[identifiers.size() * 2];
+        for (var i = 0; i < identifiers.size(); i++) {
+            packed[i * 2] = identifiers.get(i).mostSignificantBits();
+            packed[i * 2 + 1] = identifiers.get(i).leastSignificantBits();
+        }
+        final var buckets = new long[identifiers.size()];
+        hours.bucketsOf(packed, 0, identifiers.size(), buckets);
+        for (var i = 0; i < identifiers.size(); i++) {
+            final var identifier = identifiers.get(i);
+            final var expected = identifierService.toInstant(identifier).truncatedTo(ChronoUnit.HOURS);
+            assertThat(hours.bucketOf(identifier)).isEqualTo(expected.getEpochSecond() / 3600L);
+            assertThat(buckets[i]).isEqualTo(hours.bucketOf(identifier));
+            assertThat(hours.startOf(buckets[i])).isEqualTo(expected.toEpochMilli());
+        }
+    }
+
+    @Test
+    void bucketsFollowZoneOffset() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var days = new IdentifierTimeBuckets(identifierService, Duration.ofDays(1), ZoneOffset.ofHours(2));
+        final var localMidnight = LocalDate.of(2025, 1, 1).atStartOfDay().toInstant(ZoneOffset.ofHours(2));
+        final var before = identifierService.asUpperBound(localMidnight.minusMillis(1));
+        final var after = identifierService.asLowerBound(localMidnight);
+        assertThat(days.bucketOf(after)).isEqualTo(days.bucketOf(before) + 1);
+        assertThat(days.startOf(days.bucketOf(after))).isEqualTo(localMidnight.toEpochMilli());
+    }
+
+    @Test
+    void planCoversRangeWithContiguousBuckets() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var hours = new IdentifierTimeBuckets(identifierService, ChronoUnit.HOURS);
+        final var start = Instant.parse("2025-01-01T10:15:00Z");
+        final var end = Instant.parse("2025-01-01T13:45:00Z");
+        final var plan = hours.plan(start, end);
+        assertThat(plan).hasSize(4);
+        assertThat(plan.getFirst().lowerBound()).isEqualTo(identifierService.asLowerBound(start));
+        assertThat(plan.getLast().upperBound()).isEqualTo(identifierService.asUpperBound(end));
+        assertThat(plan.get(1).start()).isEqualTo(Instant.parse("2025-01-01T11:00:00Z"));
+        for (var i = 0; i < plan.size(); i++) {
+            final var bucket = plan.get(i);
+            assertThat(hours.bucketOf(bucket.lowerBound())).isEqualTo(bucket.bucket());
+            assertThat(hours.bucketOf(bucket.upperBound())).isEqualTo(bucket.bucket());
+            if (i > 0) {
+                assertThat(identifierService.toEpochMilli(bucket.lowerBound()))
+                        .isEqualTo(identifierService.toEpochMilli(plan.get(i - 1).upperBound()) + 1L);
+                assertThat(identifierService.predecessor(bucket.lowerBound())).isEqualTo(plan.get(i - 1).upperBound());
+            }
+        }
+        assertThat(hours.plan(end, start)).isEmpty();
+        assertThat(hours.plan(start, start.plusSeconds(60))).hasSize(1);
+    }
+
+    @Test
+    void planCoversBucketEdges() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var hours = new IdentifierTimeBuckets(identifierService, ChronoUnit.HOURS);
+        final var plan = hours.plan(Instant.parse("2025-01-01T10:15:00Z"), Instant.parse("2025-01-01T13:45:00Z"));
+        for (var i = 1; i < plan.size(); i++) {
+            final var edge = plan.get(i).start().toEpochMilli();
+            final var probes = List.of(
+                    identifierService.fromBits(((edge - 1L) << 16) | 0x7FFFL, 0xB123456789ABCDEFL),
+                    identifierService.fromBits(((edge - 1L) << 16) | 0x7FFFL, 0xBFFFFFFFFFFFFFFFL),
+                    identifierService.fromBits((edge << 16) | 0x7000L, 0x8000000000000000L));
+            for (final var probe : probes) {
+                final var containing = plan.stream()
+                        .filter(bucket -> bucket.lowerBound().compareTo(probe) <= 0 && probe.compareTo(bucket.upperBound()) <= 0)
+                        .toList();
+                assertThat(containing).hasSize(1);
+                assertThat(containing.getFirst().bucket()).isEqualTo(hours.bucketOf(probe));
+            }
+        }
+    }
+
+    @Test
+    void rejectInvalidWidths() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        assertThatThrownBy(() -> new IdentifierTimeBuckets(identifierService, ChronoUnit.MONTHS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IdentifierTimeBuckets(identifierService, ChronoUnit.MICROS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IdentifierTimeBuckets(identifierService, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IdentifierTimeBuckets(identifierService, Duration.ofNanos(1500))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
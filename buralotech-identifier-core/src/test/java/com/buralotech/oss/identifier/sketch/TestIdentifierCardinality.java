@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.sketch;
+
+import com.buralotech.oss.identifier.uuid.ClockRegressionStrategy;
+import com.buralotech.oss.identifier.uuid.TimeSource;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDVersion7Delegate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class TestIdentifierCardinality {
+
+    @ParameterizedTest
+    @CsvSource({
+            "v4, 10",
+            "v4, 1000",
+            "v4, 100000",
+            "v6, 100000",
+            "v7, 100000",
+            "v7, 500"
+    })
+    void estimateIsWithinFourStandardErrors(final String version,
+                                            final int count) {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        final var sketch = new IdentifierCardinality();
+        for (var i = 0; i < count; i++) {
+            final var identifier = identifierService.generate();
+            sketch.add(identifier);
+            sketch.add(identifier);
+        }
+        final var error = 4 * 1.04 / Math.sqrt(1 << sketch.precision());
+        assertThat((double) sketch.estimate()).isCloseTo(count, within(Math.max(1.0, count * error)));
+    }
+
+    @Test
+    void estimateWithNodeIdentifier() {
+        final var identifierService = new UUIDIdentifierService(new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, UUIDVersion7Delegate.MAX_NODE_BITS, 0x5A5A5A5A));
+        final var sketch = new IdentifierCardinality();
+        identifierService.generateList(100_000).forEach(sketch::add);
+        final var error = 4 * 1.04 / Math.sqrt(1 << sketch.precision());
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(100_000 * error));
+    }
+
+    @Test
+    void mergeMatchesSingleSketch() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var left = new IdentifierCardinality(10);
+        final var right = new IdentifierCardinality(10);
+        final var both = new IdentifierCardinality(10);
+        for (final var identifier : identifierService.generateList(5_000)) {
+            left.add(identifier);
+            both.add(identifier);
+        }
+        for (final var identifier : identifierService.generateList(5_000)) {
+            right.add(identifier);
+            both.add(identifier);
+        }
+        assertThat(left.merge(right).toByteArray()).isEqualTo(both.toByteArray());
+        assertThat(left.estimate()).isEqualTo(both.estimate());
+        assertThatThrownBy(() -> left.merge(new IdentifierCardinality())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void serialiseAndRestore() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V4);
+        final var sketch = new IdentifierCardinality(12);
+        identifierService.generateList(10_000).forEach(sketch::add);
+        final var restored = IdentifierCardinality.fromByteArray(sketch.toByteArray());
+        assertThat(restored.precision()).isEqualTo(12);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        restored.clear();
+        assertThat(restored.estimate()).isZero();
+    }
+
+    @Test
+    void rejectInvalidArguments() {
+        assertThatThrownBy(() -> new IdentifierCardinality(IdentifierCardinality.MIN_PRECISION - 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IdentifierCardinality(IdentifierCardinality.MAX_PRECISION + 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierCardinality.fromByteArray(new byte[32])).isInstanceOf(IllegalArgumentException.class);
+        final var truncated = new IdentifierCardinality(4).toByteArray();
+        assertThatThrownBy(() -> IdentifierCardinality.fromByteArray(Arrays.copyOf(truncated, truncated.length - 1))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
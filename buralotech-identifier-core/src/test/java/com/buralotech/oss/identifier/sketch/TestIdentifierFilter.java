@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.sketch;
+
+import com.buralotech.oss.identifier.uuid.ClockRegressionStrategy;
+import com.buralotech.oss.identifier.uuid.TimeSource;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDVersion7Delegate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierFilter {
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V4, UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void noFalseNegativesAndFewFalsePositives(final String version) {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        final var filter = IdentifierFilter.create(10_000, 0.01);
+        final var added = identifierService.generateList(10_000);
+        for (final var identifier : added) {
+            filter.add(identifier);
+        }
+        assertThat(added).allSatisfy(identifier -> assertThat(filter.mightContain(identifier)).isTrue());
+        final var falsePositives = identifierService.generateList(100_000).stream().filter(filter::mightContain).count();
+        assertThat(falsePositives).isLessThan(2_000L);
+    }
+
+    @Test
+    void fewFalsePositivesWithNodeIdentifier() {
+        final var identifierService = new UUIDIdentifierService(new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, UUIDVersion7Delegate.MAX_NODE_BITS, 0x5A5A5A5A));
+        final var filter = IdentifierFilter.create(10_000, 0.01);
+        final var added = identifierService.generateList(10_000);
+        for (final var identifier : added) {
+            filter.add(identifier);
+        }
+        assertThat(added).allSatisfy(identifier -> assertThat(filter.mightContain(identifier)).isTrue());
+        final var falsePositives = identifierService.generateList(100_000).stream().filter(filter::mightContain).count();
+        assertThat(falsePositives).isLessThan(2_000L);
+    }
+
+    @Test
+    void addReportsChange() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var filter = IdentifierFilter.create(100, 0.01);
+        final var identifier = identifierService.generate();
+        assertThat(filter.mightContain(identifier)).isFalse();
+        assertThat(filter.add(identifier)).isTrue();
+        assertThat(filter.add(identifier)).isFalse();
+    }
+
+    @Test
+    void wrapMappedFile(@TempDir final Path directory) throws IOException {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V4);
+        final var filter = IdentifierFilter.create(1_000, 0.001);
+        final var added = identifierService.generateList(1_000);
+        added.forEach(filter::add);
+        final var file = directory.resolve("filter.bin");
+        try (OutputStream output = Files.newOutputStream(file)) {
+            filter.writeTo(output);
+        }
+        assertThat(Files.size(file)).isEqualTo(filter.sizeInBytes());
+        try (var channel = FileChannel.open(file)) {
+            final var mapped = IdentifierFilter.wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size()));
+            assertThat(added).allSatisfy(identifier -> assertThat(mapped.mightContain(identifier)).isTrue());
+            assertThatThrownBy(() -> mapped.add(identifierService.generate())).isInstanceOf(ReadOnlyBufferException.class);
+        }
+    }
+
+    @Test
+    void wrapSharesBuffer() throws IOException {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V6);
+        final var bytes = new ByteArrayOutputStream();
+        IdentifierFilter.create(100, 0.01).writeTo(bytes);
+        final var buffer = ByteBuffer.wrap(bytes.toByteArray());
+        final var writer = IdentifierFilter.wrap(buffer);
+        final var reader = IdentifierFilter.wrap(buffer);
+        final var identifier = identifierService.generate();
+        writer.add(identifier);
+        assertThat(reader.mightContain(identifier)).isTrue();
+    }
+
+    @Test
+    void rejectInvalidArguments() {
+        assertThatThrownBy(() -> IdentifierFilter.create(-1, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierFilter.create(100, 0.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierFilter.create(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierFilter.create(Long.MAX_VALUE, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierFilter.wrap(ByteBuffer.allocate(48))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
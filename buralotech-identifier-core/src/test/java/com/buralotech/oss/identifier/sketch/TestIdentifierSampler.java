@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.sketch;
+
+import com.buralotech.oss.identifier.uuid.TestData;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static com.buralotech.oss.identifier.uuid.TestData.at;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class TestIdentifierSampler {
+
+    private static final long START = TestData.START / 1_000L * 1_000L;
+
+    private final Random random = new Random(42L);
+
+    @ParameterizedTest
+    @CsvSource({
+            "v4, 0.005",
+            "v4, 0.5",
+            "v6, 0.005",
+            "v6, 0.1",
+            "v7, 0.005",
+            "v7, 0.25"
+    })
+    void sampleRateIsRespected(final String version,
+                               final double rate) {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        final var sampler = IdentifierSampler.uniform(rate);
+        final var count = 200_000;
+        final var sampled = identifierService.generateStream().limit(count).filter(sampler).count();
+        assertThat((double) sampled).isCloseTo(count * rate, within(5 * Math.sqrt(count * rate) + 1));
+    }
+
+    @Test
+    void decisionsAreConsistentAndNested() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var low = IdentifierSampler.uniform(0.01);
+        final var high = IdentifierSampler.uniform(0.1);
+        final var copy = IdentifierSampler.uniform(0.01);
+        for (final var identifier : identifierService.generateList(10_000)) {
+            assertThat(copy.test(identifier)).isEqualTo(low.test(identifier));
+            if (low.test(identifier)) {
+                assertThat(high.test(identifier)).isTrue();
+            }
+        }
+        assertThat(identifierService.generateList(1_000)).allMatch(IdentifierSampler.uniform(1.0))
+                .noneMatch(IdentifierSampler.uniform(0.0));
+    }
+
+    @Test
+    void stratifiedByTimestamp() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var sampler = IdentifierSampler.stratified(identifierService, Duration.ofSeconds(1), start -> start == START + 1_000L ? 1.0 : 0.0);
+        for (var i = 0; i < 10_000; i++) {
+            final var millis = START + random.nextInt(3_000);
+            assertThat(sampler.test(at(identifierService, random, millis))).isEqualTo(millis >= START + 1_000L && millis < START + 2_000L);
+        }
+    }
+
+    @Test
+    void rejectInvalidArguments() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        assertThatThrownBy(() -> IdentifierSampler.uniform(-0.1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierSampler.uniform(1.1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierSampler.uniform(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierSampler.stratified(identifierService, Duration.ZERO, start -> 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdentifierSampler.stratified(identifierService, Duration.ofNanos(1500), start -> 1.0)).isInstanceOf(IllegalArgumentException.class);
+        final var sampler = IdentifierSampler.stratified(identifierService, Duration.ofMinutes(1), start -> 2.0);
+        assertThatThrownBy(() -> sampler.test(identifierService.generate())).isInstanceOf(IllegalArgumentException.class);
+    }
+}
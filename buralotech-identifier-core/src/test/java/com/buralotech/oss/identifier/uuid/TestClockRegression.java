@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestClockRegression {
+
+    private static final Instant START = Instant.ofEpochMilli(TestData.START);
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void generateMonotonicallyWithinMillisecond(final String version) {
+        final var timeSource = TimeSource.manual(START);
+        final var identifierService = UUIDIdentifierService.forVersion(version, timeSource);
+        final var identifiers = identifierService.generateList(20_000);
+        assertThat(identifiers).isSortedAccordingTo(Identifier::compareTo).doesNotHaveDuplicates();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void borrowOverRegression(final String version) {
+        final var timeSource = TimeSource.manual(START);
+        final var delegate = delegate(version, timeSource, ClockRegressionStrategy.borrow());
+        final var identifierService = new UUIDIdentifierService(delegate);
+        final var before = identifierService.generate();
+        timeSource.advance(Duration.ofSeconds(-5L));
+        final var after = generate(identifierService, 100);
+        assertThat(after).isSortedAccordingTo(Identifier::compareTo).allSatisfy(identifier -> {
+            assertThat(identifier).isGreaterThan(before);
+            assertThat(identifierService.toInstant(identifier)).isEqualTo(START);
+        });
+        final var stats = stats(delegate);
+        assertThat(stats.regressions()).isEqualTo(1L);
+        assertThat(stats.borrowed()).isEqualTo(1L);
+        assertThat(stats.maxRegressionMillis()).isEqualTo(5000L);
+        timeSource.advance(Duration.ofSeconds(6L));
+        assertThat(identifierService.toInstant(identifierService.generate())).isEqualTo(START.plusSeconds(1L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void restartAfterLargeRegression(final String version) {
+        final var timeSource = TimeSource.manual(START);
+        final var delegate = delegate(version, timeSource, ClockRegressionStrategy.logical(Duration.ofSeconds(1L)));
+        final var identifierService = new UUIDIdentifierService(delegate);
+        final var first = identifierService.generate();
+        timeSource.advance(Duration.ofMillis(-500L));
+        assertThat(identifierService.generate()).isGreaterThan(first);
+        final var restartAt = timeSource.advance(Duration.ofSeconds(-5L));
+        final var restarted = identifierService.generate();
+        assertThat(identifierService.toInstant(restarted)).isEqualTo(restartAt);
+        assertThat(restarted).isNotEqualTo(first);
+        final var stats = stats(delegate);
+        assertThat(stats.regressions()).isEqualTo(2L);
+        assertThat(stats.borrowed()).isEqualTo(1L);
+        assertThat(stats.restarted()).isEqualTo(1L);
+        assertThat(stats.maxRegressionMillis()).isEqualTo(5000L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void failFastUntilClockRecovers(final String version) {
+        final var timeSource = TimeSource.manual(START);
+        final var delegate = delegate(version, timeSource, ClockRegressionStrategy.failFast());
+        final var identifierService = new UUIDIdentifierService(delegate);
+        final var first = identifierService.generate();
+        timeSource.advance(Duration.ofMillis(-10L));
+        assertThatThrownBy(identifierService::generate).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(identifierService::generate).isInstanceOf(IllegalStateException.class);
+        assertThat(stats(delegate).failed()).isEqualTo(2L);
+        assertThat(stats(delegate).regressions()).isEqualTo(1L);
+        timeSource.set(START.plusMillis(1L));
+        final var recovered = identifierService.generate();
+        assertThat(recovered).isGreaterThan(first);
+        timeSource.advance(Duration.ofMillis(-10L));
+        assertThatThrownBy(identifierService::generate).isInstanceOf(IllegalStateException.class);
+        assertThat(stats(delegate).failed()).isEqualTo(3L);
+        assertThat(stats(delegate).regressions()).isEqualTo(2L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void failFastNeverFailsOnConcurrentReads(final String version) throws Exception {
+        final var delegate = delegate(version, TimeSource.system(), ClockRegressionStrategy.failFast());
+        final var identifierService = new UUIDIdentifierService(delegate);
+        final var threads = Runtime.getRuntime().availableProcessors() * 2;
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            final var futures = new ArrayList<Future<List<Identifier>>>();
+            for (var i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> generate(identifierService, 50_000)));
+            }
+            for (final var future : futures) {
+                assertThat(future.get()).isSortedAccordingTo(Identifier::compareTo);
+            }
+        }
+        assertThat(stats(delegate).failed()).isZero();
+        assertThat(stats(delegate).regressions()).isZero();
+    }
+
+    @Test
+    void rejectNegativeBound() {
+        assertThatThrownBy(() -> ClockRegressionStrategy.logical(Duration.ofMillis(-1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recordJfrEvent(@TempDir final Path directory) throws IOException {
+        final var timeSource = TimeSource.manual(START);
+        final var identifierService = new UUIDIdentifierService(new UUIDVersion7Delegate(timeSource));
+        final var file = directory.resolve("regression.jfr");
+        try (var recording = new Recording()) {
+            recording.enable("com.buralotech.identifier.ClockRegression");
+            recording.start();
+            identifierService.generate();
+            timeSource.advance(Duration.ofSeconds(-2L));
+            identifierService.generate();
+            recording.stop();
+            recording.dump(file);
+        }
+        final var events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.buralotech.identifier.ClockRegression"))
+                .toList();
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getInt("version")).isEqualTo(7);
+            assertThat(event.getString("strategy")).isEqualTo("borrow");
+            assertThat(event.getString("outcome")).isEqualTo("borrow");
+            assertThat(event.getInstant("previousMillis")).isEqualTo(START);
+            assertThat(event.getInstant("currentMillis")).isEqualTo(START.minusSeconds(2L));
+        });
+    }
+
+    private static UUIDVersionDelegate delegate(final String version,
+                                                final TimeSource timeSource,
+                                                final ClockRegressionStrategy strategy) {
+        return version.equals(UUIDIdentifierService.V6)
+                ? new UUIDVersion6Delegate(timeSource, strategy)
+                : new UUIDVersion7Delegate(timeSource, strategy);
+    }
+
+    private static ClockRegressionStats stats(final UUIDVersionDelegate delegate) {
+        return delegate instanceof UUIDVersion6Delegate v6 ? v6.clockRegressionStats() : ((UUIDVersion7Delegate) delegate).clockRegressionStats();
+    }
+
+    private static List<Identifier> generate(final UUIDIdentifierService identifierService,
+                                             final int count) {
+        final var identifiers = new ArrayList<Identifier>(count);
+        for (var i = 0; i < count; i++) {
+            identifiers.add(identifierService.generate());
+        }
+        return identifiers;
+    }
+}
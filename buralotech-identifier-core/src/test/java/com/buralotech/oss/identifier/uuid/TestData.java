@@ -16,8 +16,14 @@
 package com.buralotech.oss.identifier.uuid;
 
 import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+
+import java.util.random.RandomGenerator;
+
+public class TestData {
+
+    public static final long START = 1735248084124L;
 
-class TestData {
     static final String GOOD_ID1_STR = "zf3Wy94UIuel7UXWMryeIF";
 
     static final String GOOD_ID2_STR = "l0bK5MCbHUmOpG_nOkbw4k";
@@ -78,4 +84,9 @@ class TestData {
 
     static final Identifier GOOD_ID6 = new UUIDIdentifier(GOOD_ID6_STR, GOOD_ID6_BIN);
 
+    public static Identifier at(final IdentifierService identifierService,
+                                final RandomGenerator random,
+                                final long millis) {
+        return identifierService.fromBits((millis << 16) | 0x7000L | random.nextInt(0x1000), 0x8000000000000000L | (random.nextLong() >>> 2));
+    }
 }
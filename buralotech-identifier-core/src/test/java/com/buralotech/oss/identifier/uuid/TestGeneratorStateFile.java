@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestGeneratorStateFile {
+
+    private static final Instant START = Instant.ofEpochMilli(TestData.START);
+
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void resumeFromHighWaterMarkAfterRestart(final String version) throws IOException {
+        final var path = directory.resolve("generator.state");
+        final var timeSource = TimeSource.manual(START);
+        final var issued = new ArrayList<Identifier>();
+        try (var state = GeneratorStateFile.open(path, Duration.ofSeconds(1L))) {
+            assertThat(state.highWaterMark()).isEqualTo(Instant.EPOCH);
+            final var identifierService = new UUIDIdentifierService(delegate(version, timeSource, state));
+            issued.addAll(identifierService.generateList(100));
+            assertThat(issued).allSatisfy(identifier -> assertThat(identifierService.toInstant(identifier)).isEqualTo(START));
+            assertThat(state.highWaterMark()).isEqualTo(START.plusSeconds(1L));
+            timeSource.advance(Duration.ofMillis(999L));
+            final var later = identifierService.generateList(100);
+            assertThat(later).allSatisfy(identifier -> assertThat(identifierService.toInstant(identifier)).isEqualTo(START.plusMillis(999L)));
+            issued.addAll(later);
+            assertThat(issued).isSortedAccordingTo(Identifier::compareTo);
+            assertThat(state.highWaterMark()).isEqualTo(START.plusSeconds(1L));
+        }
+        timeSource.set(START.minus(Duration.ofHours(1L)));
+        try (var state = GeneratorStateFile.open(path, Duration.ofSeconds(1L))) {
+            final var identifierService = new UUIDIdentifierService(delegate(version, timeSource, state));
+            final var resumed = identifierService.generateList(100);
+            assertThat(resumed).allSatisfy(identifier -> {
+                assertThat(identifier).isGreaterThan(issued.getLast());
+                assertThat(identifierService.toInstant(identifier)).isEqualTo(START.plusSeconds(1L));
+            });
+            assertThat(state.highWaterMark()).isEqualTo(START.plusSeconds(2L));
+        }
+    }
+
+    @Test
+    void rejectFileInUse() throws IOException {
+        final var path = directory.resolve("generator.state");
+        try (var ignored = GeneratorStateFile.open(path, Duration.ofSeconds(1L))) {
+            assertThatThrownBy(() -> GeneratorStateFile.open(path, Duration.ofSeconds(1L)))
+                    .isInstanceOf(IOException.class);
+        }
+        GeneratorStateFile.open(path, Duration.ofSeconds(1L)).close();
+    }
+
+    @Test
+    void rejectInvalidFile() throws IOException {
+        final var wrongSize = Files.write(directory.resolve("wrong-size"), new byte[16]);
+        assertThatThrownBy(() -> GeneratorStateFile.open(wrongSize, Duration.ofSeconds(1L)))
+                .isInstanceOf(IOException.class);
+        final var wrongMagic = Files.write(directory.resolve("wrong-magic"), new byte[32]);
+        assertThatThrownBy(() -> GeneratorStateFile.open(wrongMagic, Duration.ofSeconds(1L)))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> GeneratorStateFile.open(directory.resolve("new"), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UUIDVersionDelegate delegate(final String version,
+                                                final TimeSource timeSource,
+                                                final GeneratorStateFile state) {
+        return version.equals(UUIDIdentifierService.V6)
+                ? new UUIDVersion6Delegate(timeSource, ClockRegressionStrategy.borrow(), state)
+                : new UUIDVersion7Delegate(timeSource, ClockRegressionStrategy.borrow(), state);
+    }
+}
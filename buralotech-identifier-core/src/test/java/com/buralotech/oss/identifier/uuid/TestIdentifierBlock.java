@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierBlock {
+
+    private static final Instant START = Instant.ofEpochMilli(TestData.START);
+
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 100, 4096, 100_000})
+    void blockIsStrictlyIncreasingRun(final int size) {
+        final var timeSource = TimeSource.manual(START);
+        final var identifierService = new UUIDIdentifierService(new UUIDVersion7Delegate(timeSource));
+        final var before = identifierService.generate();
+        final var block = identifierService.reserveBlock(size);
+        final var after = identifierService.generate();
+        assertThat(block.size()).isEqualTo(size);
+        assertThat(block.first()).isEqualTo(block.get(0)).isGreaterThan(before);
+        assertThat(block.last()).isEqualTo(block.get(size - 1)).isLessThan(after);
+        final var identifiers = new ArrayList<Identifier>();
+        block.forEach(identifiers::add);
+        assertThat(identifiers).hasSize(size).isSorted().doesNotHaveDuplicates();
+        assertThat(block.stream()).containsExactlyElementsOf(identifiers);
+        for (var i = 1; i < size; i++) {
+            assertThat(identifiers.get(i).compareTo(identifiers.get(i - 1))).isPositive();
+            assertThat(block.mostSignificantBits(i)).isEqualTo(identifiers.get(i).mostSignificantBits());
+            assertThat(block.leastSignificantBits(i)).isEqualTo(identifiers.get(i).leastSignificantBits());
+        }
+        assertThat(identifierService.toEpochMilli(block.first())).isEqualTo(START.toEpochMilli());
+        assertThat(identifierService.toEpochMilli(block.last())).isEqualTo(START.toEpochMilli());
+    }
+
+    @Test
+    void largestBlockStaysOnClock() {
+        final var timeSource = TimeSource.manual(START);
+        final var delegate = new UUIDVersion7Delegate(timeSource, ClockRegressionStrategy.borrow(), null, UUIDVersion7Delegate.MAX_NODE_BITS, -1);
+        final var identifierService = new UUIDIdentifierService(delegate);
+        final var block = identifierService.reserveBlock(UUIDIdentifierService.MAX_BLOCK_SIZE);
+        final var after = identifierService.generate();
+        assertThat(block.last()).isGreaterThan(block.first()).isLessThan(after);
+        assertThat(block.mostSignificantBits(UUIDIdentifierService.MAX_BLOCK_SIZE - 1)).isEqualTo(block.mostSignificantBits(0));
+        assertThat(block.leastSignificantBits(UUIDIdentifierService.MAX_BLOCK_SIZE - 1) >>> 62).isEqualTo(2L);
+        assertThat(identifierService.toEpochMilli(block.last())).isEqualTo(START.toEpochMilli());
+        assertThat(delegate.nodeOf(block.last())).isEqualTo(-1);
+    }
+
+    @Test
+    void hashesStayBalanced() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var block = identifierService.reserveBlock(10_000);
+        final var hashes = new HashSet<Long>();
+        var ones = 0L;
+        for (var i = 0; i < block.size(); i++) {
+            assertThat(block.leastSignificantBits(i) >>> 62).isEqualTo(2L);
+            final var hash = UUIDBits.hash(block.mostSignificantBits(i), block.leastSignificantBits(i));
+            hashes.add(hash);
+            ones += Long.bitCount(hash);
+        }
+        assertThat(hashes).hasSize(10_000);
+        assertThat((double) ones / (block.size() * 64L)).isBetween(0.49, 0.51);
+        assertThat(identifierService.reserveBlock(1).first().leastSignificantBits()).isNotEqualTo(block.leastSignificantBits(0));
+    }
+
+    @Test
+    void blockKeepsNodeIdentifier() {
+        final var delegate = new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, 10, 513);
+        final var identifierService = new UUIDIdentifierService(delegate);
+        final var block = identifierService.reserveBlock(1000);
+        assertThat(block).allSatisfy(identifier -> assertThat(delegate.nodeOf(identifier)).isEqualTo(513));
+    }
+
+    @Test
+    void blockIsClaimedFromSharedState() throws IOException {
+        final var path = directory.resolve("shared.state");
+        final var timeSource = TimeSource.manual(START);
+        try (var first = SharedGeneratorState.open(path);
+             var second = SharedGeneratorState.open(path)) {
+            final var reserving = new UUIDIdentifierService(new UUIDVersion7Delegate(timeSource, first, 0, 0));
+            final var generating = new UUIDIdentifierService(new UUIDVersion7Delegate(timeSource, second, 0, 0));
+            final var before = generating.generate();
+            final var block = reserving.reserveBlock(10_000);
+            final var after = generating.generate();
+            assertThat(block.first()).isGreaterThan(before);
+            assertThat(block.last()).isLessThan(after);
+        }
+    }
+
+    @Test
+    void rejectIndexOutsideBlock() {
+        final var block = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7).reserveBlock(10);
+        assertThatThrownBy(() -> block.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> block.get(10)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> block.mostSignificantBits(10)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> block.leastSignificantBits(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, UUIDIdentifierService.MAX_BLOCK_SIZE + 1})
+    void rejectInvalidBlockSize(final int size) {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        assertThatThrownBy(() -> identifierService.reserveBlock(size)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V4, UUIDIdentifierService.V6})
+    void blocksAreNotSupported(final String version) {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        assertThatThrownBy(() -> identifierService.reserveBlock(10)).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.buralotech.oss.identifier.api.IdentifierCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestIdentifierCursor {
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V4, UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void successorAndPredecessorAreAdjacent(final String version) {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        for (final var identifier : identifierService.generateList(100)) {
+            final var successor = identifierService.successor(identifier);
+            final var predecessor = identifierService.predecessor(identifier);
+            assertThat(successor).isGreaterThan(identifier);
+            assertThat(predecessor).isLessThan(identifier);
+            assertThat(identifierService.predecessor(successor)).isEqualTo(identifier);
+            assertThat(identifierService.successor(predecessor)).isEqualTo(identifier);
+        }
+    }
+
+    @Test
+    void successorCarriesAcrossReservedBits() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var identifier = identifierService.fromBits(0x0123456789AB7FFFL, 0xBFFFFFFFFFFFFFFFL);
+        final var successor = identifierService.successor(identifier);
+        assertThat(successor.mostSignificantBits()).isEqualTo(0x0123456789AC7000L);
+        assertThat(successor.leastSignificantBits()).isEqualTo(0x8000000000000000L);
+        assertThat(identifierService.predecessor(successor)).isEqualTo(identifier);
+        assertThatThrownBy(() -> identifierService.successor(identifierService.fromBits(0xFFFFFFFFFFFF7FFFL, 0xBFFFFFFFFFFFFFFFL)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> identifierService.predecessor(identifierService.fromBits(0x0000000000007000L, 0x8000000000000000L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V4, UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void cursorRoundTrip(final String version) {
+        final var identifierService = UUIDIdentifierService.forVersion(version);
+        final var identifier = identifierService.generate();
+        final var bound = Instant.ofEpochMilli(TestData.START);
+        for (final var direction : IdentifierCursor.Direction.values()) {
+            final var unbounded = new IdentifierCursor(identifier, direction);
+            final var unboundedToken = identifierService.encodeCursor(unbounded);
+            assertThat(unboundedToken).hasSize(23).matches("[0-9A-Za-z_-]+");
+            assertThat(identifierService.decodeCursor(unboundedToken)).isEqualTo(unbounded);
+            final var bounded = new IdentifierCursor(identifier, direction, bound);
+            final var boundedToken = identifierService.encodeCursor(bounded);
+            assertThat(boundedToken).hasSize(31).matches("[0-9A-Za-z_-]+");
+            assertThat(identifierService.decodeCursor(boundedToken)).isEqualTo(bounded);
+        }
+    }
+
+    @Test
+    void rejectInvalidCursors() {
+        final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+        final var identifier = identifierService.generate();
+        final var token = identifierService.encodeCursor(new IdentifierCursor(identifier, IdentifierCursor.Direction.FORWARD));
+        assertThatThrownBy(() -> identifierService.encodeCursor(new IdentifierCursor(identifier, IdentifierCursor.Direction.FORWARD, Instant.ofEpochMilli(-1L))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> identifierService.decodeCursor(token.substring(1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> identifierService.decodeCursor("2" + token.substring(1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> identifierService.decodeCursor("+" + token.substring(1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> identifierService.decodeCursor(token + "00000000")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UUIDIdentifierService.forVersion(UUIDIdentifierService.V6).decodeCursor(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.buralotech.oss.identifier.partition.IdentifierRouter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestNodeIdentifier {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0",
+            "1, 1",
+            "9, 300",
+            "16, 65535",
+            "32, -1",
+            "32, 123456789"
+    })
+    void embedNodeIdentifier(final int nodeBits,
+                             final int node) {
+        final var delegate = new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, nodeBits, node);
+        final var identifierService = new UUIDIdentifierService(delegate);
+        final IdentifierRouter router = delegate::nodeOf;
+        assertThat(delegate.nodeBits()).isEqualTo(nodeBits);
+        assertThat(delegate.node()).isEqualTo(node);
+        final var identifiers = new ArrayList<>(identifierService.generateList(1000));
+        identifiers.addAll(identifierService.generateBatch(new Instant[]{Instant.now(), Instant.EPOCH}));
+        assertThat(identifiers).doesNotHaveDuplicates().allSatisfy(identifier -> {
+            assertThat(delegate.nodeOf(identifier)).isEqualTo(node);
+            assertThat(router.route(identifier)).isEqualTo(node);
+            assertThat(identifierService.fromText(identifier.text())).isEqualTo(identifier);
+            assertThat(identifierService.fromBinary(identifier.binary())).isEqualTo(identifier);
+            assertThat(identifier.uuid().version()).isEqualTo(7);
+            assertThat(identifier.uuid().variant()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void nodesNeverCollide() {
+        final var timeSource = TimeSource.manual(Instant.ofEpochMilli(TestData.START));
+        final var first = new UUIDVersion7Delegate(timeSource, ClockRegressionStrategy.borrow(), null, 9, 1);
+        final var second = new UUIDVersion7Delegate(timeSource, ClockRegressionStrategy.borrow(), null, 9, 2);
+        final var firstIdentifiers = new UUIDIdentifierService(first).generateList(1000);
+        final var secondIdentifiers = new UUIDIdentifierService(second).generateList(1000);
+        assertThat(firstIdentifiers).doesNotContainAnyElementsOf(secondIdentifiers);
+        assertThat(firstIdentifiers).allSatisfy(identifier -> assertThat(second.nodeOf(identifier)).isEqualTo(1));
+    }
+
+    @Test
+    void rejectInvalidNode() {
+        assertThatThrownBy(() -> new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, -1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, UUIDVersion7Delegate.MAX_NODE_BITS + 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, 8, 256))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, 8, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestSharedGeneratorState {
+
+    private static final Instant START = Instant.ofEpochMilli(TestData.START);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void separateMappingsNeverCollide() throws Exception {
+        final var path = directory.resolve("shared.state");
+        final var timeSource = TimeSource.manual(START);
+        try (var first = SharedGeneratorState.open(path);
+             var second = SharedGeneratorState.open(path);
+             var executor = Executors.newFixedThreadPool(4)) {
+            final var services = List.of(
+                    new UUIDIdentifierService(new UUIDVersion7Delegate(timeSource, first, 0, 0)),
+                    new UUIDIdentifierService(new UUIDVersion7Delegate(timeSource, second, 0, 0)));
+            final var tasks = new ArrayList<Callable<List<Identifier>>>();
+            for (var i = 0; i < 4; i++) {
+                final var identifierService = services.get(i % 2);
+                tasks.add(() -> {
+                    final var identifiers = new ArrayList<Identifier>();
+                    for (var j = 0; j < 5000; j++) {
+                        identifiers.add(identifierService.generate());
+                        if (j % 1000 == 0) {
+                            timeSource.advance(Duration.ofMillis(1L));
+                        }
+                    }
+                    return identifiers;
+                });
+            }
+            final var msbs = new HashSet<Long>();
+            for (final Future<List<Identifier>> result : executor.invokeAll(tasks)) {
+                final var identifiers = result.get();
+                assertThat(identifiers).isSortedAccordingTo(Identifier::compareTo);
+                identifiers.forEach(identifier -> msbs.add(identifier.mostSignificantBits()));
+            }
+            assertThat(msbs).hasSize(20_000);
+        }
+    }
+
+    @Test
+    void stateSurvivesReopening() throws IOException {
+        final var path = directory.resolve("shared.state");
+        final var timeSource = TimeSource.manual(START);
+        final Identifier last;
+        try (var shared = SharedGeneratorState.open(path)) {
+            last = new UUIDIdentifierService(new UUIDVersion7Delegate(timeSource, shared, 0, 0)).generateList(100).getLast();
+        }
+        timeSource.advance(Duration.ofMinutes(-1L));
+        try (var shared = SharedGeneratorState.open(path)) {
+            final var identifierService = new UUIDIdentifierService(new UUIDVersion7Delegate(timeSource, shared, 8, 42));
+            final var next = identifierService.generate();
+            assertThat(next).isGreaterThan(last);
+            assertThat(identifierService.toInstant(next)).isEqualTo(START);
+        }
+    }
+
+    @Test
+    void regressionsAreBorrowedAndCounted() throws IOException {
+        final var timeSource = TimeSource.manual(START);
+        try (var shared = SharedGeneratorState.open(directory.resolve("shared.state"))) {
+            final var delegate = new UUIDVersion7Delegate(timeSource, shared, 0, 0);
+            final var identifierService = new UUIDIdentifierService(delegate);
+            final var before = identifierService.generate();
+            timeSource.advance(Duration.ofSeconds(-5L));
+            final var after = identifierService.generate();
+            assertThat(after).isGreaterThan(before);
+            assertThat(identifierService.toInstant(after)).isEqualTo(START);
+            final var stats = delegate.clockRegressionStats();
+            assertThat(stats.regressions()).isEqualTo(1L);
+            assertThat(stats.borrowed()).isEqualTo(1L);
+            assertThat(stats.maxRegressionMillis()).isEqualTo(5000L);
+        }
+    }
+
+    @Test
+    void rejectInvalidFile() throws IOException {
+        final var wrongSize = Files.write(directory.resolve("wrong-size"), new byte[16]);
+        assertThatThrownBy(() -> SharedGeneratorState.open(wrongSize))
+                .isInstanceOf(IOException.class);
+        final var wrongMagic = Files.write(directory.resolve("wrong-magic"), new byte[32]);
+        assertThatThrownBy(() -> SharedGeneratorState.open(wrongMagic))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestTimeSource {
+
+    private static final Instant START = Instant.ofEpochMilli(TestData.START);
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void generateWithManualTime(final String version) {
+        final var timeSource = TimeSource.manual(START);
+        final var identifierService = UUIDIdentifierService.forVersion(version, timeSource);
+        final var first = identifierService.generate();
+        assertThat(identifierService.toInstant(first)).isEqualTo(START);
+        final var later = timeSource.advance(Duration.ofDays(365L));
+        assertThat(later).isEqualTo(START.plus(Duration.ofDays(365L)));
+        final var identifiers = identifierService.generateList(100);
+        assertThat(identifiers)
+                .doesNotHaveDuplicates()
+                .allSatisfy(identifier -> assertThat(identifierService.toInstant(identifier)).isEqualTo(later))
+                .allSatisfy(identifier -> assertThat(identifier).isGreaterThan(first));
+        timeSource.set(START.plusMillis(1L));
+        assertThat(identifierService.toInstant(identifierService.generate())).isIn(START.plusMillis(1L), later);
+    }
+
+    @Test
+    void systemTimeSourceFollowsSystemClock() {
+        final var before = System.currentTimeMillis();
+        final var now = TimeSource.system().currentTimeMillis();
+        assertThat(now).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    void coarseTimeSourceFollowsSystemClock() throws InterruptedException {
+        try (var timeSource = TimeSource.coarse(Duration.ofMillis(1L))) {
+            final var identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7, timeSource);
+            final var first = timeSource.currentTimeMillis();
+            Thread.sleep(50L);
+            final var second = timeSource.currentTimeMillis();
+            assertThat(second).isGreaterThan(first).isLessThanOrEqualTo(System.currentTimeMillis());
+            assertThat(identifierService.toEpochMilli(identifierService.generate())).isGreaterThanOrEqualTo(second);
+        }
+    }
+
+    @Test
+    void rejectNonPositiveResolution() {
+        assertThatThrownBy(() -> TimeSource.coarse(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimeSource.coarse(Duration.ofMillis(-1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -52,6 +52,8 @@ class TestUUIDIdentifier {
         assertThat(id.binary()).isEqualTo(binary);
         assertThat(id.uuidString()).isEqualTo(uuidString);
         assertThat(id.uuid()).isEqualTo(UUID.fromString(uuidString));
+        assertThat(id.mostSignificantBits()).isEqualTo(UUID.fromString(uuidString).getMostSignificantBits());
+        assertThat(id.leastSignificantBits()).isEqualTo(UUID.fromString(uuidString).getLeastSignificantBits());
     }
 
     private static Stream<Arguments> canCompareTwoSameObjects() {
@@ -129,6 +129,17 @@ class TestUUIDIdentifierServiceV4 {
         assertThat(id.binary()).isEqualTo(binary);
     }
 
+    @ParameterizedTest
+    @MethodSource("goodIdentifiers")
+    void parseGoodBitsRepresentations(final String text, final String hexString, final byte[] binary) {
+        final var buffer = ByteBuffer.wrap(binary);
+        final var id = identifierService.fromBits(buffer.getLong(), buffer.getLong());
+        assertThat(id).isEqualTo(new UUIDIdentifier(text, binary));
+        assertThat(id.text()).isEqualTo(text);
+        assertThat(id.hex()).isEqualTo(hexString);
+        assertThat(id.binary()).isEqualTo(binary);
+    }
+
     @ParameterizedTest
     @MethodSource("goodIdentifiers")
     void parseGoodHexRepresentations(final String text, final String hexString, final byte[] binary) {
@@ -223,6 +234,15 @@ class TestUUIDIdentifierServiceV4 {
                 .isNull();
     }
 
+    @Test
+    void generateForTimeIsNotSupported() {
+        final var now = Instant.now();
+        assertThatThrownBy(() -> identifierService.generate(now))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> identifierService.generateBatch(new Instant[]{now}))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void testInstantBounds() {
         final var now = Instant.now();
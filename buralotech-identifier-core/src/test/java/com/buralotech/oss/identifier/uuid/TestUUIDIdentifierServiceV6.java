@@ -148,6 +148,17 @@ class TestUUIDIdentifierServiceV6 {
         assertThat(id.binary()).isEqualTo(binary);
     }
 
+    @ParameterizedTest
+    @MethodSource("goodIdentifiers")
+    void parseGoodBitsRepresentations(final String text, final String hexString, final byte[] binary) {
+        final var buffer = ByteBuffer.wrap(binary);
+        final var id = identifierService.fromBits(buffer.getLong(), buffer.getLong());
+        assertThat(id).isEqualTo(new UUIDIdentifier(text, binary));
+        assertThat(id.text()).isEqualTo(text);
+        assertThat(id.hex()).isEqualTo(hexString);
+        assertThat(id.binary()).isEqualTo(binary);
+    }
+
     @ParameterizedTest
     @MethodSource("goodIdentifiers")
     void parseGoodHexRepresentations(final String text, final String hexString, final byte[] binary) {
@@ -236,6 +247,47 @@ class TestUUIDIdentifierServiceV6 {
         assertThat(identifierService.toInstant(identifier)).isCloseTo(Instant.now(), within(1, ChronoUnit.SECONDS));
     }
 
+    @Test
+    void extractEpochMilli() {
+        assertThat(identifierService.generateList(17))
+                .allSatisfy(identifier -> assertThat(identifierService.toEpochMilli(identifier))
+                        .isEqualTo(identifierService.toInstant(identifier).toEpochMilli()));
+    }
+
+    @Test
+    void extractEpochMilliFromBits() {
+        assertThat(identifierService.generateList(17))
+                .allSatisfy(identifier -> assertThat(identifierService.toEpochMilli(identifier.mostSignificantBits(), identifier.leastSignificantBits()))
+                        .isEqualTo(identifierService.toEpochMilli(identifier)));
+    }
+
+    @Test
+    void generateForTime() {
+        final var time = Instant.ofEpochMilli(TestData.START).plusNanos(123_456L);
+        final var times = new Instant[1000];
+        Arrays.fill(times, time);
+        times[999] = time.plusSeconds(86_400L);
+        final var identifiers = identifierService.generateBatch(times);
+        assertThat(identifiers).hasSize(times.length).doesNotHaveDuplicates();
+        for (var i = 0; i < times.length; i++) {
+            final var identifier = identifiers.get(i);
+            assertThat(identifierService.toEpochMilli(identifier)).isEqualTo(times[i].toEpochMilli());
+            assertThat(identifier)
+                    .isGreaterThanOrEqualTo(identifierService.asLowerBound(times[i]))
+                    .isLessThan(identifierService.asLowerBound(times[i].plusMillis(1L)))
+                    .isEqualTo(identifierService.fromText(identifier.text()));
+        }
+        assertThat(identifierService.generate(time)).isNotEqualTo(identifierService.generate(time));
+    }
+
+    @Test
+    void rejectUnrepresentableTime() {
+        assertThatThrownBy(() -> identifierService.generate(Instant.parse("1500-01-01T00:00:00Z")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> identifierService.generate(Instant.MAX))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void extractNullInstant() {
         assertThat(identifierService.toInstant(null)).isNull();
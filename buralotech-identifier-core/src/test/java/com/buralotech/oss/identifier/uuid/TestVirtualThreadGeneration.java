@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.uuid;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestVirtualThreadGeneration {
+
+    private static final int THREADS = 100_000;
+
+    private static final int PLATFORM_THREADS = 16;
+
+    private static final int PER_PLATFORM_THREAD = 20_000;
+
+    private static final String GENERATOR = "generator-";
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+
+    private static final String PARKED = "jdk.ThreadPark";
+
+    private static final String MONITOR_BLOCKED = "jdk.JavaMonitorEnter";
+
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V4, UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void generateWithoutPinning(final String version) throws IOException {
+        assertNoPinning(UUIDIdentifierService.forVersion(version));
+    }
+
+    @Test
+    void generateWithStateWithoutPinning() throws IOException {
+        try (var state = GeneratorStateFile.open(directory.resolve("generator.state"), Duration.ofMillis(1L))) {
+            assertNoPinning(new UUIDIdentifierService(new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), state, 8, 42)));
+        }
+    }
+
+    @Test
+    void generateWithSharedStateWithoutPinning() throws IOException {
+        try (var shared = SharedGeneratorState.open(directory.resolve("shared.state"))) {
+            assertNoPinning(new UUIDIdentifierService(new UUIDVersion7Delegate(TimeSource.system(), shared, 0, 0)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {UUIDIdentifierService.V6, UUIDIdentifierService.V7})
+    void generateWithoutBlocking(final String version) throws Exception {
+        assertNoBlocking(UUIDIdentifierService.forVersion(version));
+    }
+
+    @Test
+    void generateWithThreadLocalRandomWithoutBlocking() throws Exception {
+        assertNoBlocking(new UUIDIdentifierService(new UUIDVersion6Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, RandomSource.threadLocal())));
+        assertNoBlocking(new UUIDIdentifierService(new UUIDVersion7Delegate(TimeSource.system(), ClockRegressionStrategy.borrow(), null, 0, 0, RandomSource.threadLocal())));
+    }
+
+    @Test
+    void generateWithSharedStateWithoutBlocking() throws Exception {
+        try (var shared = SharedGeneratorState.open(directory.resolve("shared.state"))) {
+            assertNoBlocking(new UUIDIdentifierService(new UUIDVersion7Delegate(TimeSource.system(), shared, 0, 0)));
+        }
+    }
+
+    private void assertNoPinning(final IdentifierService identifierService) throws IOException {
+        final var identifiers = new AtomicReferenceArray<Identifier>(THREADS);
+        final var file = directory.resolve("pinning.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(PINNED).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (var i = 0; i < THREADS; i++) {
+                    final var index = i;
+                    executor.execute(() -> identifiers.set(index, identifierService.generate()));
+                }
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+        final var distinct = new HashSet<Identifier>();
+        for (var i = 0; i < THREADS; i++) {
+            distinct.add(identifiers.get(i));
+        }
+        assertThat(distinct).hasSize(THREADS);
+        assertThat(RecordingFile.readAllEvents(file))
+                .filteredOn(event -> event.getEventType().getName().equals(PINNED))
+                .isEmpty();
+    }
+
+    /**
+     * Generate from contending platform threads, because parking a virtual thread does not record a
+     * {@code jdk.ThreadPark} event, and check that generation neither parked nor waited for a monitor. Events from
+     * the test thread and the executor's own queue are left out.
+     */
+    private void assertNoBlocking(final IdentifierService identifierService) throws Exception {
+        identifierService.generateList(1000);
+        final var file = directory.resolve("blocking.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(PARKED).withThreshold(Duration.ZERO).withStackTrace();
+            recording.enable(MONITOR_BLOCKED).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            try (var executor = Executors.newFixedThreadPool(PLATFORM_THREADS, Thread.ofPlatform().name(GENERATOR, 0L).factory())) {
+                final var futures = new ArrayList<Future<List<Identifier>>>();
+                for (var i = 0; i < PLATFORM_THREADS; i++) {
+                    futures.add(executor.submit(() -> identifierService.generateList(PER_PLATFORM_THREAD)));
+                }
+                for (final var future : futures) {
+                    assertThat(future.get()).hasSize(PER_PLATFORM_THREAD);
+                }
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+        assertThat(RecordingFile.readAllEvents(file))
+                .filteredOn(event -> Set.of(PARKED, MONITOR_BLOCKED).contains(event.getEventType().getName()))
+                .filteredOn(event -> event.getThread() != null && event.getThread().getJavaName().startsWith(GENERATOR))
+                .filteredOn(event -> event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                        .anyMatch(frame -> frame.getMethod().getType().getName().startsWith("com.buralotech.oss.identifier.")))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.jcstress;
+
+import com.buralotech.oss.identifier.api.Identifier;
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+/**
+ * One thread creates an identifier and publishes it through a plain field without synchronisation while another
+ * reads the field. A reader that sees the identifier must see its text representation and hash code fully
+ * computed, which the final fields of {@code UUIDIdentifier} guarantee. Any value computed lazily on first use
+ * would have to keep this guarantee too.
+ */
+@JCStressTest
+@Description("An identifier published through a data race is seen fully initialised.")
+@Outcome(id = "-1", expect = Expect.ACCEPTABLE, desc = "The identifier was not published yet.")
+@Outcome(id = "1", expect = Expect.ACCEPTABLE, desc = "The identifier was seen fully initialised.")
+@Outcome(id = "0", expect = Expect.FORBIDDEN, desc = "The identifier was seen with a stale text or hash code.")
+@State
+public class IdentifierPublication {
+
+    /**
+     * Creates the identifiers.
+     */
+    private static final IdentifierService IDENTIFIER_SERVICE = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+    /**
+     * The binary representation of the identifier that is published.
+     */
+    private static final byte[] BINARY = IDENTIFIER_SERVICE.generate().binary();
+
+    /**
+     * The expected text representation.
+     */
+    private static final String TEXT = IDENTIFIER_SERVICE.fromBinary(BINARY).text();
+
+    /**
+     * The expected hash code.
+     */
+    private static final int HASH_CODE = IDENTIFIER_SERVICE.fromBinary(BINARY).hashCode();
+
+    /**
+     * The published identifier, deliberately neither final nor volatile.
+     */
+    private @Nullable Identifier published;
+
+    /**
+     * Creates and publishes the identifier.
+     */
+    @Actor
+    public void writer() {
+        published = IDENTIFIER_SERVICE.fromBinary(BINARY);
+    }
+
+    /**
+     * Reads the identifier if it has been published.
+     *
+     * @param result {@code -1} if the identifier was not published yet, {@code 1} if it was fully initialised and
+     *               {@code 0} otherwise.
+     */
+    @Actor
+    public void reader(final I_Result result) {
+        final var identifier = published;
+        if (identifier == null) {
+            result.r1 = -1;
+        } else {
+            result.r1 = identifier.text().equals(TEXT) && identifier.hashCode() == HASH_CODE ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.jcstress;
+
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * Two callers each generate two identifiers from the same type 6 generator. The most significant halves of all four
+ * must be distinct and each caller's second identifier must be greater than its first.
+ */
+@JCStressTest
+@Description("Concurrent callers of a type 6 generator receive distinct identifiers that ascend for each caller.")
+@Outcome(id = "true, true", expect = Expect.ACCEPTABLE, desc = "All identifiers are distinct and ascend for each caller.")
+@Outcome(id = "false, .*", expect = Expect.FORBIDDEN, desc = "Two identifiers share their most significant halves.")
+@Outcome(id = ".*, false", expect = Expect.FORBIDDEN, desc = "A caller received an identifier below its previous one.")
+@State
+public class Version6Generation {
+
+    /**
+     * A fresh generator for each run.
+     */
+    private final IdentifierService identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V6);
+
+    /**
+     * The most significant bits of the first identifier of the first caller.
+     */
+    private long first1;
+
+    /**
+     * The most significant bits of the second identifier of the first caller.
+     */
+    private long first2;
+
+    /**
+     * The most significant bits of the first identifier of the second caller.
+     */
+    private long second1;
+
+    /**
+     * The most significant bits of the second identifier of the second caller.
+     */
+    private long second2;
+
+    /**
+     * The first caller.
+     */
+    @Actor
+    public void first() {
+        first1 = identifierService.generate().mostSignificantBits();
+        first2 = identifierService.generate().mostSignificantBits();
+    }
+
+    /**
+     * The second caller.
+     */
+    @Actor
+    public void second() {
+        second1 = identifierService.generate().mostSignificantBits();
+        second2 = identifierService.generate().mostSignificantBits();
+    }
+
+    /**
+     * Check the identifiers once both callers have finished.
+     *
+     * @param result Whether the identifiers are distinct and whether they ascend for each caller.
+     */
+    @Arbiter
+    public void arbiter(final ZZ_Result result) {
+        result.r1 = first1 != first2 && first1 != second1 && first1 != second2
+                && first2 != second1 && first2 != second2 && second1 != second2;
+        result.r2 = Long.compareUnsigned(first1, first2) < 0 && Long.compareUnsigned(second1, second2) < 0;
+    }
+}
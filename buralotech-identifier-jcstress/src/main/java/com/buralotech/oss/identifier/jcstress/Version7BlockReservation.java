@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.buralotech.oss.identifier.jcstress;
+
+import com.buralotech.oss.identifier.api.IdentifierService;
+import com.buralotech.oss.identifier.uuid.UUIDIdentifierService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.Z_Result;
+
+/**
+ * One caller reserves a block of type 7 identifiers while another generates an identifier from the same generator.
+ * The generated identifier must not fall inside the block.
+ */
+@JCStressTest
+@Description("A type 7 identifier generated while a block is reserved never falls inside the block.")
+@Outcome(id = "true", expect = Expect.ACCEPTABLE, desc = "The identifier is outside the block.")
+@Outcome(id = "false", expect = Expect.FORBIDDEN, desc = "The identifier falls inside the block.")
+@State
+public class Version7BlockReservation {
+
+    /**
+     * A fresh generator for each run.
+     */
+    private final IdentifierService identifierService = UUIDIdentifierService.forVersion(UUIDIdentifierService.V7);
+
+    /**
+     * The most significant bits of the first identifier in the block.
+     */
+    private long blockFirst;
+
+    /**
+     * The most significant bits of the last identifier in the block.
+     */
+    private long blockLast;
+
+    /**
+     * The most significant bits of the generated identifier.
+     */
+    private long generated;
+
+    /**
+     * Reserves the block.
+     */
+    @Actor
+    public void reserve() {
+        final var block = identifierService.reserveBlock(8);
+        blockFirst = block.mostSignificantBits(0);
+        blockLast = block.mostSignificantBits(block.size() - 1);
+    }
+
+    /**
+     * Generates the identifier.
+     */
+    @Actor
+    public void generate() {
+        generated = identifierService.generate().mostSignificantBits();
+    }
+
+    /**
+     * Check the identifier once both callers have finished.
+     *
+     * @param result Whether the identifier is outside the block.
+     */
+    @Arbiter
+    public void arbiter(final Z_Result result) {
+        result.r1 = Long.compareUnsigned(generated, blockFirst) < 0 || Long.compareUnsigned(generated, blockLast) > 0;
+    }
+}
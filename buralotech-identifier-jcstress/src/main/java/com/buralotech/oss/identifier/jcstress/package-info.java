@@ -0,0 +1,24 @@
+/*
+ * Copyright 2026 Búraló Technologies
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * jcstress tests for the identifier generators and the publication of identifiers across threads. Build the module
+ * with the {@code jcstress} profile and run {@code java -jar target/jcstress.jar}.
+ */
+@NullMarked
+package com.buralotech.oss.identifier.jcstress;
+
+import org.jspecify.annotations.NullMarked;